@@ -20,6 +20,28 @@ public class CharacterConverterBenchmark {
 
     private static final Pattern HEX_PATTERN = Pattern.compile(HEX_PREFIX + "[a-f\\d]+", Pattern.CASE_INSENSITIVE);
 
+    private final CharacterConverter converter = new CharacterConverter();
+
+    @Benchmark
+    public Character benchmarkConvertCharacter() {
+        return converter.convert("a");
+    }
+
+    @Benchmark
+    public Character benchmarkConvertHex() {
+        return converter.convert("0xa3");
+    }
+
+    @Benchmark
+    public Character benchmarkConvertUnicodeEscape() {
+        return converter.convert("\\u00a3");
+    }
+
+    @Benchmark
+    public Character benchmarkConvertCodePoint() {
+        return converter.convert("U+00A3");
+    }
+
     @Benchmark
     public void benchmarkConvertWithStartsWithAndSubstring() {
         convertWithStartsWithAndSubstring("0xa3");
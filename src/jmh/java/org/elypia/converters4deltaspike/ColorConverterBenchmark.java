@@ -5,6 +5,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
 import java.awt.Color;
@@ -16,6 +17,108 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Thread)
 public class ColorConverterBenchmark {
 
+    private final ColorConverter converter = new ColorConverter();
+
+    private final ColorConverter cachedConverter = new ColorConverter(64);
+
+    /** More distinct colors than the cache can hold, so each lookup misses. */
+    private String[] distinctColors;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        distinctColors = new String[4096];
+
+        for (int i = 0; i < distinctColors.length; i++)
+            distinctColors[i] = String.format("#%06X", i * 4099);
+    }
+
+    @Benchmark
+    public Color benchmarkNamedColorPerfectHash() {
+        return converter.convert("CornflowerBlue");
+    }
+
+    @Benchmark
+    public Color benchmarkNamedColorLowerCaseSwitch() {
+        return lowerCaseSwitch("LightGray");
+    }
+
+    @Benchmark
+    public Color benchmarkNamedColorPerfectHashLegacyName() {
+        return converter.convert("LightGray");
+    }
+
+    @Benchmark
+    public Color benchmarkCacheHit() {
+        return cachedConverter.convert("#336699");
+    }
+
+    @Benchmark
+    public Color benchmarkCacheMiss() {
+        return cachedConverter.convert(nextDistinctColor());
+    }
+
+    @Benchmark
+    public Color benchmarkWithoutCacheRepeated() {
+        return converter.convert("#336699");
+    }
+
+    @Benchmark
+    public Color benchmarkWithoutCacheDistinct() {
+        return converter.convert(nextDistinctColor());
+    }
+
+    private String nextDistinctColor() {
+        index = (index + 1) & (distinctColors.length - 1);
+        return distinctColors[index];
+    }
+
+    @Benchmark
+    public Color benchmarkNibbleDecoderWith3Digits() {
+        return converter.parseWebColor("#FFF");
+    }
+
+    @Benchmark
+    public Color benchmarkNibbleDecoderWith6Digits() {
+        return converter.parseWebColor("#336699");
+    }
+
+    @Benchmark
+    public Color benchmarkNibbleDecoderWith8Digits() {
+        return converter.parseWebColor("#FFFFFFFF");
+    }
+
+    @Benchmark
+    public Color benchmarkRgbFunction() {
+        return converter.convert("rgb(51 102 153)");
+    }
+
+    @Benchmark
+    public Color benchmarkRgbFunctionWithAlpha() {
+        return converter.convert("rgb(51 102 153 / 50%)");
+    }
+
+    @Benchmark
+    public Color benchmarkLegacyRgbaFunction() {
+        return converter.convert("rgba(51, 102, 153, 0.5)");
+    }
+
+    @Benchmark
+    public Color benchmarkHslFunction() {
+        return converter.convert("hsl(210deg 50% 40%)");
+    }
+
+    @Benchmark
+    public Color benchmarkLegacyHslaFunction() {
+        return converter.convert("hsla(210, 50%, 40%, 0.5)");
+    }
+
+    @Benchmark
+    public Color benchmarkSwitchToHandleAllLengthsWith6Digits() {
+        return switchToHandleAllLengths("#336699");
+    }
+
     @Benchmark
     public void benchmarkSwitchToHandleAllLengthsWith3Digits() {
         switchToHandleAllLengths("#FFF");
@@ -91,4 +194,25 @@ public class ColorConverterBenchmark {
                 throw new IllegalArgumentException("Invalid hexadecimal color provided, if literal value decoding is required, specify 0x instead of #, otherwise expecting 3, 4, 6, or 8 characters only.");
         }
     }
+
+    public Color lowerCaseSwitch(final String value) {
+        Objects.requireNonNull(value);
+
+        switch (value.toLowerCase()) {
+            case "white": return Color.WHITE;
+            case "lightgray": return Color.LIGHT_GRAY;
+            case "gray": return Color.GRAY;
+            case "darkgray": return Color.DARK_GRAY;
+            case "black": return Color.BLACK;
+            case "red": return Color.RED;
+            case "pink": return Color.PINK;
+            case "orange": return Color.ORANGE;
+            case "yellow": return Color.YELLOW;
+            case "green": return Color.GREEN;
+            case "magenta": return Color.MAGENTA;
+            case "cyan": return Color.CYAN;
+            case "blue": return Color.BLUE;
+            default: return null;
+        }
+    }
 }
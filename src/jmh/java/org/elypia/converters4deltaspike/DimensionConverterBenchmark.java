@@ -20,6 +20,23 @@ public class DimensionConverterBenchmark {
 
     private static final Pattern DIMENSION_PATTERN = Pattern.compile("(?<x>\\d+)(?:x(?<y>\\d+))?");
 
+    private final DimensionConverter converter = new DimensionConverter();
+
+    @Benchmark
+    public Dimension benchmarkScanner() {
+        return converter.convert("512");
+    }
+
+    @Benchmark
+    public Dimension benchmarkScannerWithHeight() {
+        return converter.convert("1920x1080");
+    }
+
+    @Benchmark
+    public Dimension benchmarkRegexWithHeight() {
+        return convertRegardless("1920x1080");
+    }
+
     @Benchmark
     public void convertRegardless() {
         convertRegardless("512");
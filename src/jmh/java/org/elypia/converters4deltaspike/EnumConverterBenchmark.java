@@ -0,0 +1,63 @@
+package org.elypia.converters4deltaspike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class EnumConverterBenchmark {
+
+    private static final Pattern ENUM_PATTERN = Pattern.compile("(?<package>(?:[a-z\\d.]+)*)\\.(?<class>[A-Za-z\\d]+)[#.](?<name>[A-Z\\d_]+)");
+
+    private static final String VALID = "java.util.concurrent.TimeUnit.SECONDS";
+
+    private static final String DEEPLY_NESTED = "org.example.a.b.c.d.e.f.g.h.i.j.k.l.m.n.o.p.q.r.s.t.u.v.w.x.y.z.Example#VALUE";
+
+    /** Never matches, but makes the nested quantifier try every way of splitting the package. */
+    private static final String PATHOLOGICAL = "aaaaaaaaaaaaaaaaaaaa!";
+
+    private final EnumConverter converter = new EnumConverter();
+
+    @Benchmark
+    public boolean benchmarkRegexWithValid() {
+        return ENUM_PATTERN.matcher(VALID).matches();
+    }
+
+    @Benchmark
+    public int benchmarkScannerWithValid() {
+        return EnumConverter.indexOfConstant(VALID);
+    }
+
+    @Benchmark
+    public boolean benchmarkRegexWithDeeplyNested() {
+        return ENUM_PATTERN.matcher(DEEPLY_NESTED).matches();
+    }
+
+    @Benchmark
+    public int benchmarkScannerWithDeeplyNested() {
+        return EnumConverter.indexOfConstant(DEEPLY_NESTED);
+    }
+
+    @Benchmark
+    public boolean benchmarkRegexWithPathological() {
+        return ENUM_PATTERN.matcher(PATHOLOGICAL).matches();
+    }
+
+    @Benchmark
+    public int benchmarkScannerWithPathological() {
+        return EnumConverter.indexOfConstant(PATHOLOGICAL);
+    }
+
+    @Benchmark
+    public Enum benchmarkConvertQualified() {
+        return converter.convert(VALID);
+    }
+}
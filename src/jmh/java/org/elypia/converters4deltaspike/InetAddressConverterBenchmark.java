@@ -0,0 +1,44 @@
+package org.elypia.converters4deltaspike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class InetAddressConverterBenchmark {
+
+    private static final String IPV4 = "192.168.0.1";
+
+    private static final String IPV6 = "2001:db8:0:1234:0:567:8:1";
+
+    private final InetAddressConverter converter = new InetAddressConverter(true);
+
+    @Benchmark
+    public InetAddress benchmarkLiteralParserWithIpv4() {
+        return converter.convert(IPV4);
+    }
+
+    @Benchmark
+    public InetAddress benchmarkLiteralParserWithIpv6() {
+        return converter.convert(IPV6);
+    }
+
+    @Benchmark
+    public InetAddress benchmarkGetByNameWithIpv4() throws UnknownHostException {
+        return InetAddress.getByName(IPV4);
+    }
+
+    @Benchmark
+    public InetAddress benchmarkGetByNameWithIpv6() throws UnknownHostException {
+        return InetAddress.getByName(IPV6);
+    }
+}
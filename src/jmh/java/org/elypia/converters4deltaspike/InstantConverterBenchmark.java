@@ -0,0 +1,82 @@
+package org.elypia.converters4deltaspike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class InstantConverterBenchmark {
+
+    private static final String EPOCH_MILLIS = "1596500083605";
+
+    private static final String ISO_INSTANT = "2020-08-04T00:14:43.605Z";
+
+    private static final String ISO_INSTANT_NANOS = "2020-08-04T00:14:43.605123456Z";
+
+    private final InstantConverter converter = new InstantConverter();
+
+    @Benchmark
+    public Instant benchmarkShapeDetectionWithNumber() {
+        return converter.convert(EPOCH_MILLIS);
+    }
+
+    @Benchmark
+    public Instant benchmarkShapeDetectionWithIsoInstant() {
+        return converter.convert(ISO_INSTANT);
+    }
+
+    @Benchmark
+    public Instant benchmarkExceptionFallbackWithNumber() {
+        return exceptionFallback(EPOCH_MILLIS);
+    }
+
+    @Benchmark
+    public Instant benchmarkExceptionFallbackWithIsoInstant() {
+        return exceptionFallback(ISO_INSTANT);
+    }
+
+    @Benchmark
+    public Instant benchmarkCanonicalParserWithIsoInstant() {
+        return InstantConverter.parseCanonical(ISO_INSTANT);
+    }
+
+    @Benchmark
+    public Instant benchmarkCanonicalParserWithIsoInstantNanos() {
+        return InstantConverter.parseCanonical(ISO_INSTANT_NANOS);
+    }
+
+    @Benchmark
+    public Instant benchmarkInstantParseWithIsoInstant() {
+        return Instant.parse(ISO_INSTANT);
+    }
+
+    @Benchmark
+    public Instant benchmarkInstantParseWithIsoInstantNanos() {
+        return Instant.parse(ISO_INSTANT_NANOS);
+    }
+
+    public Instant exceptionFallback(String value) {
+        Objects.requireNonNull(value, "Value can't be null.");
+
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ex) {
+            try {
+                final long epoch = Long.parseLong(value);
+                return Instant.ofEpochMilli(epoch);
+            } catch (RuntimeException rEx) {
+                throw new IllegalArgumentException("Value isn't a valid DateTimeFormatter.ISO_INSTANT String, and isn't a valid number of milliseconds. Unable to convert value to Instant.", rEx);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.elypia.converters4deltaspike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ListConverterBenchmark {
+
+    @Param({"10", "10000"})
+    private int elements;
+
+    private final ListConverter<Duration> durationConverter = new ListConverter<>(new DurationConverter(), ',', Integer.MAX_VALUE);
+
+    private final ListConverter<Duration> parallelDurationConverter = new ListConverter<>(new DurationConverter(), ',', 1);
+
+    private final ListConverter<UUID> uuidConverter = new ListConverter<>(new UuidConverter(), ',', Integer.MAX_VALUE);
+
+    private final ListConverter<UUID> parallelUuidConverter = new ListConverter<>(new UuidConverter(), ',', 1);
+
+    private String durations;
+
+    private String uuids;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(elements);
+        final StringBuilder durationBuilder = new StringBuilder();
+        final StringBuilder uuidBuilder = new StringBuilder();
+
+        for (int i = 0; i < elements; i++) {
+            if (i != 0) {
+                durationBuilder.append(", ");
+                uuidBuilder.append(", ");
+            }
+
+            durationBuilder.append(random.nextInt(1000)).append('s');
+            uuidBuilder.append(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        durations = durationBuilder.toString();
+        uuids = uuidBuilder.toString();
+    }
+
+    @Benchmark
+    public List<String> benchmarkSplit() {
+        return Elements.split(uuids, ',');
+    }
+
+    @Benchmark
+    public List<Duration> benchmarkDurations() {
+        return durationConverter.convert(durations);
+    }
+
+    @Benchmark
+    public List<Duration> benchmarkDurationsParallel() {
+        return parallelDurationConverter.convert(durations);
+    }
+
+    @Benchmark
+    public List<UUID> benchmarkUuids() {
+        return uuidConverter.convert(uuids);
+    }
+
+    @Benchmark
+    public List<UUID> benchmarkUuidsParallel() {
+        return parallelUuidConverter.convert(uuids);
+    }
+}
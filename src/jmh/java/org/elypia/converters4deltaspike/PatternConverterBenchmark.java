@@ -0,0 +1,53 @@
+package org.elypia.converters4deltaspike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PatternConverterBenchmark {
+
+    private static final String ROUTE = "^/api/v(?<version>[0-9]+)/(?<resource>users|groups|roles)/(?<id>[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})(/.*)?$";
+
+    private final PatternConverter converter = new PatternConverter();
+
+    private final PatternConverter cachedConverter = new PatternConverter(new PatternCache(64));
+
+    private final PatternConverter guardedConverter = new PatternConverter(PatternConverter.Option.REJECT_NESTED_QUANTIFIERS);
+
+    private final PatternConverter guardedCachedConverter = new PatternConverter(0, new PatternCache(64), PatternConverter.Option.REJECT_NESTED_QUANTIFIERS);
+
+    @Benchmark
+    public Pattern benchmarkCompileEveryTime() {
+        return converter.convert(ROUTE);
+    }
+
+    @Benchmark
+    public Pattern benchmarkCached() {
+        return cachedConverter.convert(ROUTE);
+    }
+
+    @Benchmark
+    public Pattern benchmarkCompileEveryTimeWithGuard() {
+        return guardedConverter.convert(ROUTE);
+    }
+
+    @Benchmark
+    public Pattern benchmarkCachedWithGuard() {
+        return guardedCachedConverter.convert(ROUTE);
+    }
+
+    @Benchmark
+    public String benchmarkGuardOnly() {
+        QuantifierAnalyzer.check(ROUTE, 0);
+        return ROUTE;
+    }
+}
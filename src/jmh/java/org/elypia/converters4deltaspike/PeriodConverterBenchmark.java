@@ -0,0 +1,60 @@
+package org.elypia.converters4deltaspike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Period;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PeriodConverterBenchmark {
+
+    private static final String DAYS = "31";
+
+    private static final String ISO_PERIOD = "P1Y2M3D";
+
+    private final PeriodConverter converter = new PeriodConverter();
+
+    @Benchmark
+    public Period benchmarkShapeDetectionWithNumber() {
+        return converter.convert(DAYS);
+    }
+
+    @Benchmark
+    public Period benchmarkShapeDetectionWithIsoPeriod() {
+        return converter.convert(ISO_PERIOD);
+    }
+
+    @Benchmark
+    public Period benchmarkExceptionFallbackWithNumber() {
+        return exceptionFallback(DAYS);
+    }
+
+    @Benchmark
+    public Period benchmarkExceptionFallbackWithIsoPeriod() {
+        return exceptionFallback(ISO_PERIOD);
+    }
+
+    public Period exceptionFallback(String value) {
+        Objects.requireNonNull(value, "Value can't be null.");
+
+        try {
+            return Period.parse(value);
+        } catch (DateTimeParseException ex) {
+            try {
+                int number = Integer.parseInt(value);
+                return Period.ofDays(number);
+            } catch (RuntimeException rEx) {
+                throw new IllegalArgumentException("Value provided is not a valid Period String, or valid Integer value and can't be converted to a Period.", rEx);
+            }
+        }
+    }
+}
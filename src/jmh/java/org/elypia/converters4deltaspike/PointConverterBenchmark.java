@@ -0,0 +1,57 @@
+package org.elypia.converters4deltaspike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.Point;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PointConverterBenchmark {
+
+    private static final Pattern POINT_SPLIT = Pattern.compile("\\s*,\\s*");
+
+    private static final String POINT = "(1280, 720)";
+
+    private final PointConverter converter = new PointConverter();
+
+    @Benchmark
+    public Point benchmarkScanner() {
+        return converter.convert(POINT);
+    }
+
+    @Benchmark
+    public Point benchmarkRegexSplit() {
+        return convertWithRegexSplit(POINT);
+    }
+
+    public Point convertWithRegexSplit(String value) {
+        Objects.requireNonNull(value, "Value must not be null.");
+
+        if (value.isEmpty())
+            throw new IllegalArgumentException("A point can not be empty.");
+
+        final int lastCharIndex = value.length() - 1;
+
+        if (value.charAt(0) != '(' || value.charAt(lastCharIndex) != ')')
+            throw new IllegalArgumentException("Point coordinates must be enclosed in brackets.");
+
+        final String coordinates = value.substring(1, lastCharIndex);
+        final String[] xy = POINT_SPLIT.split(coordinates);
+
+        if (xy.length != 2)
+            throw new IllegalArgumentException("Point must have an x coordinate, and y coordinate only, expecting the following format: (40, 200)");
+
+        final int x = Integer.parseInt(xy[0]);
+        final int y = Integer.parseInt(xy[1]);
+        return new Point(x, y);
+    }
+}
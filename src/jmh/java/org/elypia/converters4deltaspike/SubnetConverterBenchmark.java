@@ -0,0 +1,73 @@
+package org.elypia.converters4deltaspike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class SubnetConverterBenchmark {
+
+    /** The number of addresses looked up, cycled through by each benchmark. */
+    private static final int ADDRESSES = 1024;
+
+    @Param({"10", "1000", "100000"})
+    private int entries;
+
+    private Subnets subnets;
+
+    private byte[][] ipv4Addresses;
+
+    private byte[][] ipv6Addresses;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(entries);
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < entries; i++) {
+            if (i != 0)
+                builder.append(',');
+
+            if ((i & 1) == 0) {
+                builder.append(random.nextInt(224)).append('.').append(random.nextInt(256)).append('.').append(random.nextInt(256)).append(".0/24");
+            } else {
+                builder.append("2001:db8:").append(Integer.toHexString(random.nextInt(0x10000))).append(':').append(Integer.toHexString(random.nextInt(0x10000))).append("::/64");
+            }
+        }
+
+        subnets = new SubnetConverter().convert(builder.toString());
+        ipv4Addresses = new byte[ADDRESSES][4];
+        ipv6Addresses = new byte[ADDRESSES][16];
+
+        for (int i = 0; i < ADDRESSES; i++) {
+            random.nextBytes(ipv4Addresses[i]);
+            random.nextBytes(ipv6Addresses[i]);
+            ipv6Addresses[i][0] = 0x20;
+            ipv6Addresses[i][1] = 0x01;
+            ipv6Addresses[i][2] = 0x0D;
+            ipv6Addresses[i][3] = (byte)0xB8;
+        }
+    }
+
+    @Benchmark
+    public boolean benchmarkContainsIpv4() {
+        return subnets.contains(ipv4Addresses[next++ & (ADDRESSES - 1)]);
+    }
+
+    @Benchmark
+    public boolean benchmarkContainsIpv6() {
+        return subnets.contains(ipv6Addresses[next++ & (ADDRESSES - 1)]);
+    }
+}
@@ -0,0 +1,72 @@
+package org.elypia.converters4deltaspike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class UrlConverterBenchmark {
+
+    private static final String ALLOWED_URL = "https://elypia.org/api/v1/users?page=2";
+
+    private static final String DISALLOWED_URL = "ftp://elypia.org/pub/file.txt";
+
+    private static final Set<String> ALLOWED_PROTOCOLS = Set.of("http", "https");
+
+    private final UrlConverter converter = new UrlConverter(ALLOWED_PROTOCOLS);
+
+    @Benchmark
+    public URL benchmarkPreScanWithAllowedProtocol() {
+        return converter.convert(ALLOWED_URL);
+    }
+
+    @Benchmark
+    public Object benchmarkPreScanWithDisallowedProtocol() {
+        try {
+            return converter.convert(DISALLOWED_URL);
+        } catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public URL benchmarkConstructFirstWithAllowedProtocol() {
+        return convertConstructFirst(ALLOWED_URL);
+    }
+
+    @Benchmark
+    public Object benchmarkConstructFirstWithDisallowedProtocol() {
+        try {
+            return convertConstructFirst(DISALLOWED_URL);
+        } catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+
+    public URL convertConstructFirst(String value) {
+        Objects.requireNonNull(value, "Value can't be null.");
+
+        try {
+            URL url = new URL(value);
+            String protocol = url.getProtocol().toLowerCase();
+
+            if (!ALLOWED_PROTOCOLS.contains(protocol))
+                throw new IllegalArgumentException("URL provided must specify one of the following protocols: " + String.join(", ", ALLOWED_PROTOCOLS));
+
+            return url;
+        } catch (MalformedURLException ex) {
+            throw new IllegalArgumentException("Configuration value provided is not a valid URL, or uses an unknown protocol.", ex);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.elypia.converters4deltaspike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class UuidConverterBenchmark {
+
+    private static final String UUID_STRING = "cebfb280-a7b0-4561-bc75-f71a1a08f66b";
+
+    private static final String DASHLESS_UUID_STRING = "cebfb280a7b04561bc75f71a1a08f66b";
+
+    private final UuidConverter converter = new UuidConverter(UuidConverter.Option.DASHLESS);
+
+    @Benchmark
+    public UUID benchmarkLookupTable() {
+        return converter.convert(UUID_STRING);
+    }
+
+    @Benchmark
+    public UUID benchmarkLookupTableDashless() {
+        return converter.convert(DASHLESS_UUID_STRING);
+    }
+
+    @Benchmark
+    public UUID benchmarkFromString() {
+        return UUID.fromString(UUID_STRING);
+    }
+}
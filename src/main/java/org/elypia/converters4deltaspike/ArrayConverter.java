@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ *     Converts a comma separated list of elements into an array,
+ *     converting each element with another converter, for example:
+ * </p>
+ *
+ * <pre><code>
+ * public class InetAddressArrayConverter extends ArrayConverter&lt;InetAddress&gt; {
+ *
+ *     public InetAddressArrayConverter() {
+ *         super(InetAddress.class, new InetAddressConverter());
+ *     }
+ * }
+ * </code></pre>
+ *
+ * <p>
+ *     Elements are split the same way as {@link ListConverter}.
+ *     Each conversion returns a new array, so callers may modify
+ *     it without affecting each other.
+ * </p>
+ *
+ * @param <T> The type of each element.
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class ArrayConverter<T> implements ConfigResolver.Converter<T[]> {
+
+    /** The component type of the arrays to create. */
+    private final Class<T> type;
+
+    /** The converter to convert each element with. */
+    private final ConfigResolver.Converter<? extends T> converter;
+
+    /** The character which separates elements. */
+    private final char delimiter;
+
+    /** The number of elements at which they're converted in parallel. */
+    private final int parallelThreshold;
+
+    /**
+     * @param type The component type of the arrays to create.
+     * @param converter The converter to convert each element with.
+     * @throws IllegalArgumentException If the type is a primitive type.
+     */
+    public ArrayConverter(final Class<T> type, final ConfigResolver.Converter<? extends T> converter) {
+        this(type, converter, ',', Elements.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param type The component type of the arrays to create.
+     * @param converter The converter to convert each element with.
+     * @param delimiter The character which separates elements.
+     * @param parallelThreshold The number of elements at which they're converted in parallel,
+     * or {@link Integer#MAX_VALUE} to always convert them on the calling thread.
+     * @throws IllegalArgumentException If the type is a primitive type, the delimiter
+     * is a backslash or whitespace, or the threshold isn't greater than 0.
+     */
+    public ArrayConverter(final Class<T> type, final ConfigResolver.Converter<? extends T> converter, final char delimiter, final int parallelThreshold) {
+        if (type.isPrimitive())
+            throw new IllegalArgumentException("Type " + type.getName() + " is a primitive type, use the wrapper type instead.");
+
+        this.type = type;
+        this.converter = Objects.requireNonNull(converter);
+        this.delimiter = Elements.requireDelimiter(delimiter);
+        this.parallelThreshold = Elements.requireThreshold(parallelThreshold);
+    }
+
+    /**
+     * @param value The value of the configuration property.
+     * @return A new array of the converted elements, in the order they were listed.
+     * @throws NullPointerException If the value is null.
+     * @throws IllegalArgumentException If any element is empty or can't be converted.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] convert(String value) {
+        Objects.requireNonNull(value, "Value can't be null.");
+
+        final List<String> elements = Elements.split(value, delimiter);
+        final T[] results = (T[])Array.newInstance(type, elements.size());
+        Elements.convert(converter, elements, results, parallelThreshold);
+        return results;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * <p>
+ *     Wraps another converter and remembers the value each {@link String}
+ *     was converted to, so converting the same {@link String} again is
+ *     a hash lookup.
+ * </p>
+ *
+ * <p>
+ *     The cache belongs to the instance, and DeltaSpike creates a new instance
+ *     of the converter given to {@link org.apache.deltaspike.core.api.config.ConfigProperty#converter()}
+ *     each time it converts, so this should be kept as a single long-lived instance
+ *     and passed to {@link ConfigResolver.TypedResolver#as(Class, ConfigResolver.Converter)},
+ *     for example:
+ * </p>
+ *
+ * <pre><code>
+ * private static final CachingConverter&lt;Duration&gt; DURATIONS = new CachingConverter&lt;&gt;(new DurationConverter(), 256);
+ *
+ * Duration timeout = ConfigResolver.resolve("timeout").as(Duration.class, DURATIONS).getValue();
+ * </code></pre>
+ *
+ * <p>
+ *     Cached values are shared between every caller, so this should only wrap
+ *     converters to immutable types, such as {@link java.util.UUID}, {@link Duration},
+ *     {@link java.util.regex.Pattern}, or {@link java.util.Locale}. Converters to
+ *     mutable types, such as {@link Point}, {@link Dimension}, or arrays, must be given
+ *     a copier which creates a defensive copy of the cached value each time it's returned.
+ *     Only the converters of this library are checked for this, any other converter
+ *     to a mutable type must also be given a copier.
+ * </p>
+ *
+ * <p>
+ *     Values which fail to convert aren't cached, so they're converted
+ *     and throw again each time.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     The cache is split into segments by the hash of the {@link String}, each
+ *     an access ordered {@link LinkedHashMap} with its own lock, so threads converting
+ *     different values rarely contend. When a segment is full, its least recently
+ *     used value is evicted.
+ * </p>
+ *
+ * @param <T> The type the wrapped converter converts to.
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class CachingConverter<T> implements ConfigResolver.Converter<T> {
+
+    /** The maximum number of segments, each with their own lock. */
+    private static final int MAX_SEGMENTS = 16;
+
+    /** The converter to convert values which aren't cached. */
+    private final ConfigResolver.Converter<T> converter;
+
+    /** How long a value is cached in nanoseconds, or 0 if values don't expire. */
+    private final long expiryNanos;
+
+    /** Creates a copy of cached values before they're returned, or null if they're immutable. */
+    private final UnaryOperator<T> copier;
+
+    /** The cached values, the number of segments is always a power of two. */
+    private final List<Segment<T>> segments;
+
+    /**
+     * @param converter The converter to convert values which aren't cached.
+     * @param maximumSize The maximum number of values to cache.
+     * @throws IllegalArgumentException If the maximum size isn't greater than 0,
+     * or the converter is known to convert to a mutable type.
+     */
+    public CachingConverter(final ConfigResolver.Converter<T> converter, final int maximumSize) {
+        this(converter, maximumSize, Duration.ZERO, null);
+    }
+
+    /**
+     * @param converter The converter to convert values which aren't cached.
+     * @param maximumSize The maximum number of values to cache.
+     * @param expiry How long to cache each value for, or {@link Duration#ZERO} to cache them until they're evicted.
+     * @throws IllegalArgumentException If the maximum size isn't greater than 0, the expiry is negative,
+     * or the converter is known to convert to a mutable type.
+     */
+    public CachingConverter(final ConfigResolver.Converter<T> converter, final int maximumSize, final Duration expiry) {
+        this(converter, maximumSize, expiry, null);
+    }
+
+    /**
+     * @param converter The converter to convert values which aren't cached.
+     * @param maximumSize The maximum number of values to cache.
+     * @param expiry How long to cache each value for, or {@link Duration#ZERO} to cache them until they're evicted.
+     * @param copier Creates a defensive copy of a cached value each time it's returned,
+     * such as <code>Point::new</code>, or null if the type is immutable.
+     * @throws IllegalArgumentException If the maximum size isn't greater than 0, the expiry is negative,
+     * or the converter is known to convert to a mutable type and no copier was provided.
+     */
+    public CachingConverter(final ConfigResolver.Converter<T> converter, final int maximumSize, final Duration expiry, final UnaryOperator<T> copier) {
+        this.converter = Objects.requireNonNull(converter);
+
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be greater than 0.");
+
+        if (expiry.isNegative())
+            throw new IllegalArgumentException("Expiry can't be negative.");
+
+        if (copier == null && (converter instanceof PointConverter || converter instanceof DimensionConverter || converter instanceof ArrayConverter))
+            throw new IllegalArgumentException("Converter " + converter.getClass().getName() + " converts to a mutable type, so a copier must be provided.");
+
+        this.expiryNanos = expiry.toNanos();
+        this.copier = copier;
+
+        final int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        final int segmentSize = maximumSize / segmentCount;
+        final int remainder = maximumSize % segmentCount;
+        this.segments = new ArrayList<>(segmentCount);
+
+        // Spread the remainder over the first segments, so the sizes add up to exactly the maximum size.
+        for (int i = 0; i < segmentCount; i++)
+            segments.add(new Segment<>((i < remainder) ? segmentSize + 1 : segmentSize));
+    }
+
+    /**
+     * @param value The value of the configuration property.
+     * @return The cached value, or the value converted by the wrapped converter.
+     * @throws NullPointerException If the value is null.
+     * @throws IllegalArgumentException If the wrapped converter can't convert the value.
+     */
+    @Override
+    public T convert(String value) {
+        Objects.requireNonNull(value, "Value can't be null.");
+
+        final Segment<T> segment = segmentFor(value);
+        final long now = (expiryNanos == 0) ? 0 : System.nanoTime();
+        CachedValue<T> cached;
+
+        synchronized (segment) {
+            cached = segment.get(value);
+
+            if (cached != null && expiryNanos != 0 && now - cached.expiresAt >= 0) {
+                segment.remove(value);
+                cached = null;
+            }
+        }
+
+        if (cached == null) {
+            final T converted = converter.convert(value);
+
+            if (converted == null)
+                return null;
+
+            cached = new CachedValue<>(converted, now + expiryNanos);
+
+            synchronized (segment) {
+                segment.put(value, cached);
+            }
+        }
+
+        return (copier == null) ? cached.value : copier.apply(cached.value);
+    }
+
+    /**
+     * Removes every cached value, such as after the configuration is reloaded.
+     */
+    public void clear() {
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * @return The number of values cached, including any which have expired but not been removed yet.
+     */
+    public int size() {
+        int size = 0;
+
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    private Segment<T> segmentFor(final String value) {
+        final int hash = value.hashCode();
+        return segments.get((hash ^ (hash >>> 16)) & (segments.size() - 1));
+    }
+
+    /** A converted value and when it expires. */
+    private static final class CachedValue<T> {
+
+        private final T value;
+
+        /** The {@link System#nanoTime()} this expires at, if values expire. */
+        private final long expiresAt;
+
+        private CachedValue(final T value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /** An access ordered map which evicts the least recently used value when it's full. */
+    private static final class Segment<T> extends LinkedHashMap<String, CachedValue<T>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+
+        private Segment(final int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CachedValue<T>> eldest) {
+            return size() > maximumSize;
+        }
+    }
+}
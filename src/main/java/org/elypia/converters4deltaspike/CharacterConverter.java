@@ -19,37 +19,90 @@ import java.util.Objects;
  *     clients, applications, and servers.
  * </p>
  *
+ * This accepts values such as:
+ * <ul>
+ *     <li><code>$</code></li>
+ *     <li><code>0x24</code>, a hexadecimal number</li>
+ *     <li><code>&#92;u0024</code>, a Java unicode escape</li>
+ *     <li><code>U+0024</code>, a Unicode code point</li>
+ * </ul>
+ *
+ * <p>
+ *     The code point must be in the basic multilingual plane, so it's no greater
+ *     than <code>U+FFFF</code> and can be represented as a single {@link Character}.
+ * </p>
+ *
  * @author seth@elypia.org (Seth Falco)
  * @since 1.0.0
  */
 public class CharacterConverter implements ConfigResolver.Converter<Character> {
 
-    /** This prefix allows us to determine an input is a hexadecimal {@link String}. */
-    private static final String HEX_PREFIX = "0x";
-
     /**
      * @param value The value of the configuration property.
      * @return A {@link Character} which represents the configuration property value.
      * @throws NullPointerException If the value is null.
-     * @throws IllegalArgumentException If an empty string is provided as the value.
+     * @throws IllegalArgumentException If an empty string is provided as the value,
+     * or the code point is greater than <code>U+FFFF</code>.
      * @throws NumberFormatException If a hexadecimal {@link String} is provided, but
-     * can not be parsed as an {@link Integer}.
+     * doesn't have a valid number of hexadecimal digits.
      */
     @Override
     public Character convert(String value) {
         Objects.requireNonNull(value, "Value can't be null.");
 
-        if (value.isEmpty())
+        final int length = value.length();
+
+        if (length == 0)
             throw new IllegalArgumentException("Value can't be empty.");
 
-        if (value.length() == 1)
+        if (length == 1)
             return value.charAt(0);
 
-        if (value.toLowerCase().startsWith(HEX_PREFIX)) {
-            int hexValue = Integer.parseInt(value, HEX_PREFIX.length(), value.length(), 16);
-            return (char)hexValue;
-        }
+        final char first = value.charAt(0);
+        final char second = value.charAt(1);
+
+        if (first == '0' && (second == 'x' || second == 'X'))
+            return parseHex(value, 1, Integer.MAX_VALUE);
+
+        if (first == '\\' && second == 'u')
+            return parseHex(value, 4, 4);
+
+        if ((first == 'U' || first == 'u') && second == '+')
+            return parseHex(value, 4, 6);
 
         throw new IllegalArgumentException("Value can't be represented as a character.");
     }
+
+    /**
+     * @param value The value of the configuration property, with a two character prefix.
+     * @param minDigits The minimum number of hexadecimal digits after the prefix.
+     * @param maxDigits The maximum number of hexadecimal digits after the prefix.
+     * @return The character with the code point of the hexadecimal digits.
+     */
+    private static Character parseHex(final String value, final int minDigits, final int maxDigits) {
+        final int length = value.length();
+        final int digits = length - 2;
+
+        if (digits < minDigits)
+            throw new NumberFormatException("Value must have at least " + minDigits + " hexadecimal digits.");
+
+        if (digits > maxDigits)
+            throw new NumberFormatException("Value must have at most " + maxDigits + " hexadecimal digits.");
+
+        int codePoint = 0;
+
+        for (int i = 2; i < length; i++) {
+            final int digit = Numbers.hexDigit(value.charAt(i));
+
+            if (digit == -1)
+                throw new NumberFormatException("Value contains a character which isn't a hexadecimal digit at index " + i + ".");
+
+            codePoint = (codePoint << 4) | digit;
+
+            if (codePoint > Character.MAX_VALUE)
+                throw new IllegalArgumentException("Code point is greater than U+FFFF and can't be represented as a single character.");
+        }
+
+        return (char)codePoint;
+    }
 }
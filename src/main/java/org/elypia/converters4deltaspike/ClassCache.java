@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ *     Caches the result of {@link Class#forName(String, boolean, ClassLoader)}
+ *     by {@link ClassLoader} and class name, including names which couldn't
+ *     be resolved, so repeated lookups don't go through the {@link ClassLoader}.
+ * </p>
+ *
+ * <p>
+ *     Both the {@link ClassLoader}s and the resolved {@link Class}es are only
+ *     weakly referenced, so an application that's undeployed can still be
+ *     garbage collected even though this cache outlives it.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     The cache is a {@link ConcurrentHashMap} keyed by weak references to each
+ *     {@link ClassLoader}, so lookups never take a lock. Entries for collected
+ *     {@link ClassLoader}s are removed the next time a {@link ClassLoader} is added.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+final class ClassCache {
+
+    /** Stored in place of a {@link Class} for names which couldn't be resolved. */
+    private static final Reference<Class<?>> NOT_FOUND = new WeakReference<>(null);
+
+    /** The cached classes of each {@link ClassLoader} by name, keyed by {@link LoaderKey}. */
+    private static final Map<Object, Map<String, Reference<Class<?>>>> CACHE = new ConcurrentHashMap<>();
+
+    /** The cached classes of the bootstrap {@link ClassLoader}, which is represented by null. */
+    private static final Map<String, Reference<Class<?>>> BOOTSTRAP_CACHE = new ConcurrentHashMap<>();
+
+    /** The keys of {@link ClassLoader}s which have been garbage collected. */
+    private static final ReferenceQueue<ClassLoader> COLLECTED = new ReferenceQueue<>();
+
+    private ClassCache() {
+        // Do nothing.
+    }
+
+    /**
+     * Resolves the class with the context {@link ClassLoader} of the current {@link Thread},
+     * or the {@link ClassLoader} of this library if the thread has none.
+     *
+     * @param className The fully qualified name of the class.
+     * @return The {@link Class} with this name, or null if it couldn't be found.
+     */
+    static Class<?> forName(final String className) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+
+        if (loader == null)
+            loader = ClassCache.class.getClassLoader();
+
+        return forName(className, loader);
+    }
+
+    /**
+     * @param className The fully qualified name of the class.
+     * @param loader The {@link ClassLoader} to load the class from.
+     * @return The {@link Class} with this name, or null if it couldn't be found.
+     */
+    static Class<?> forName(final String className, final ClassLoader loader) {
+        final Map<String, Reference<Class<?>>> classes = classesOf(loader);
+        final Reference<Class<?>> cached = classes.get(className);
+
+        if (cached == NOT_FOUND)
+            return null;
+
+        if (cached != null) {
+            final Class<?> type = cached.get();
+
+            if (type != null)
+                return type;
+        }
+
+        try {
+            final Class<?> type = Class.forName(className, true, loader);
+            classes.put(className, new WeakReference<>(type));
+            return type;
+        } catch (ClassNotFoundException ex) {
+            classes.put(className, NOT_FOUND);
+            return null;
+        }
+    }
+
+    /**
+     * @param loader The {@link ClassLoader}, or null for the bootstrap {@link ClassLoader}.
+     * @return The cached classes of the {@link ClassLoader} by name.
+     */
+    private static Map<String, Reference<Class<?>>> classesOf(final ClassLoader loader) {
+        if (loader == null)
+            return BOOTSTRAP_CACHE;
+
+        final Map<String, Reference<Class<?>>> classes = CACHE.get(new Lookup(loader));
+
+        if (classes != null)
+            return classes;
+
+        Reference<? extends ClassLoader> collected;
+
+        while ((collected = COLLECTED.poll()) != null)
+            CACHE.remove(collected);
+
+        return CACHE.computeIfAbsent(new LoaderKey(loader), (key) -> new ConcurrentHashMap<>());
+    }
+
+    /** A weak reference to a {@link ClassLoader}, equal to other keys and lookups of the same {@link ClassLoader}. */
+    private static final class LoaderKey extends WeakReference<ClassLoader> {
+
+        private final int hash;
+
+        private LoaderKey(final ClassLoader loader) {
+            super(loader, COLLECTED);
+            this.hash = System.identityHashCode(loader);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (object == this)
+                return true;
+
+            final ClassLoader loader = get();
+
+            if (loader == null)
+                return false;
+
+            if (object instanceof LoaderKey)
+                return loader == ((LoaderKey)object).get();
+
+            return object instanceof Lookup && loader == ((Lookup)object).loader;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /** Looks up a {@link LoaderKey} without creating a {@link WeakReference}. */
+    private static final class Lookup {
+
+        private final ClassLoader loader;
+
+        private Lookup(final ClassLoader loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof LoaderKey && ((LoaderKey)object).get() == loader;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(loader);
+        }
+    }
+}
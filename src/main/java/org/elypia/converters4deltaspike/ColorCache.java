@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import java.awt.Color;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ *     A bounded, lock-free table of canonical {@link Color} instances
+ *     keyed by their packed ARGB value.
+ * </p>
+ *
+ * <p>
+ *     The table uses open addressing with a short linear probe, the key
+ *     of each slot is read back from {@link Color#getRGB()} so no boxing
+ *     or separate key array is required. When every slot in a probe sequence
+ *     is occupied, the first slot is overwritten, so the table never grows
+ *     beyond the capacity it was created with.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+final class ColorCache {
+
+    /** The maximum number of slots inspected before evicting an entry. */
+    private static final int MAX_PROBES = 4;
+
+    /** The slots of the table, the length is always a power of two. */
+    private final AtomicReferenceArray<Color> table;
+
+    /** Used to map a hash onto a slot in the {@link #table}. */
+    private final int mask;
+
+    /**
+     * @param capacity The minimum number of colors to hold, rounded up to a power of two.
+     */
+    ColorCache(final int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Cache capacity must be greater than 0.");
+
+        final int size = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+
+        if (size <= 0)
+            throw new IllegalArgumentException("Cache capacity is too large.");
+
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @param argb The packed ARGB value of the color.
+     * @return The canonical {@link Color} for this value, created
+     * and stored if it's not already in the table.
+     */
+    Color intern(final int argb) {
+        final int home = hash(argb) & mask;
+
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            final int index = (home + probe) & mask;
+            final Color color = table.get(index);
+
+            if (color == null) {
+                final Color created = new Color(argb, true);
+
+                if (table.compareAndSet(index, null, created))
+                    return created;
+
+                final Color raced = table.get(index);
+
+                if (raced.getRGB() == argb)
+                    return raced;
+
+                continue;
+            }
+
+            if (color.getRGB() == argb)
+                return color;
+        }
+
+        final Color created = new Color(argb, true);
+        table.set(home, created);
+        return created;
+    }
+
+    /**
+     * Spreads the bits of the color so similar colors don't
+     * all land on neighbouring slots.
+     *
+     * @param argb The packed ARGB value of the color.
+     * @return A well distributed hash of the value.
+     */
+    private static int hash(final int argb) {
+        final int h = argb * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
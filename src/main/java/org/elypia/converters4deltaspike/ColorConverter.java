@@ -36,6 +36,9 @@ import java.util.Objects;
  *     <li>#RGB</li>
  *     <li>#RGBA</li>
  *     <li>#RRGGBBAA</li>
+ *     <li>Named colors, such as <code>rebeccapurple</code></li>
+ *     <li>rgb(R G B / A) and rgba(R, G, B, A)</li>
+ *     <li>hsl(H S L / A) and hsla(H, S, L, A)</li>
  * </ul>
  *
  * <p>
@@ -56,6 +59,36 @@ public class ColorConverter implements ConfigResolver.Converter<Color> {
     /** To be a web based hexadecimal color, it must be prefixed with this. */
     private static final String HEX_COLOR_PREFIX = "#";
 
+    /** Canonical {@link Color} instances by ARGB value, or null to create a new {@link Color} each time. */
+    private final ColorCache cache;
+
+    /**
+     * Constructs the {@link ColorConverter} without a cache, so a new
+     * {@link Color} is created for every value converted.
+     */
+    public ColorConverter() {
+        this.cache = null;
+    }
+
+    /**
+     * <p>
+     *     Constructs the {@link ColorConverter} with a bounded cache of
+     *     {@link Color} instances, so converting the same color repeatedly
+     *     returns the same instance.
+     * </p>
+     *
+     * <p>
+     *     The cache is keyed by the packed ARGB value of the color, it never
+     *     grows beyond its capacity and older colors are replaced when it's full.
+     * </p>
+     *
+     * @param cacheSize The number of colors to keep, rounded up to a power of two.
+     * @throws IllegalArgumentException If the cache size isn't greater than 0.
+     */
+    public ColorConverter(final int cacheSize) {
+        this.cache = new ColorCache(cacheSize);
+    }
+
     /**
      * <p>
      *     Convert the configuration value to a Java {@link Color} object,
@@ -63,8 +96,10 @@ public class ColorConverter implements ConfigResolver.Converter<Color> {
      * </p>
      *
      * <p>
-     *     This can also interpret raw color names based on the standard colors
-     *     defined in Java, such as the following:
+     *     This can also interpret any of the named colors defined in CSS, such as
+     *     <code>rebeccapurple</code> or <code>CornflowerBlue</code>, regardless of case.
+     *     The names of the standard colors defined in Java resolve to the
+     *     constants in {@link Color}, such as the following:
      * </p>
      *
      * <ul>
@@ -96,38 +131,43 @@ public class ColorConverter implements ConfigResolver.Converter<Color> {
      *     If this is desired, then this method falls back to using {@link Color#decode(String)},
      *     so for literal hexadecimal values you prefix it with <code>0x</code> instead of
      *     {@link #HEX_COLOR_PREFIX}.
+     *
+     *     Values ending in a closing bracket are parsed as one of the CSS color functions,
+     *     such as <code>rgb(12 34 56 / 50%)</code> or <code>hsl(120deg, 100%, 50%)</code>.
+     *
+     *     Names are only looked up if the value doesn't start with {@link #HEX_COLOR_PREFIX}
+     *     or a digit, as no color name does.
      * </small>
      *
      * @param value The value of the configuration property.
      * @return A {@link Color} which represents the compiled configuration property.
      * @throws NullPointerException If the value is null.
      * @throws NumberFormatException If an invalid number is provided.
+     * @throws IllegalArgumentException If an invalid color function is provided.
      */
     @Override
     public Color convert(String value) {
         Objects.requireNonNull(value, "Value can't be null.");
 
-        switch (value.toLowerCase()) {
-            case "white": return Color.WHITE;
-            case "lightgray": return Color.LIGHT_GRAY;
-            case "gray": return Color.GRAY;
-            case "darkgray": return Color.DARK_GRAY;
-            case "black": return Color.BLACK;
-            case "red": return Color.RED;
-            case "pink": return Color.PINK;
-            case "orange": return Color.ORANGE;
-            case "yellow": return Color.YELLOW;
-            case "green": return Color.GREEN;
-            case "magenta": return Color.MAGENTA;
-            case "cyan": return Color.CYAN;
-            case "blue": return Color.BLUE;
-            default: // Do nothing.
-        }
+        if (!value.isEmpty()) {
+            final char first = value.charAt(0);
+
+            if (first == HEX_COLOR_PREFIX.charAt(0))
+                return parseWebColor(value);
+
+            if (first < '0' || first > '9') {
+                final Color named = NamedColors.get(value);
 
-        if (value.startsWith(HEX_COLOR_PREFIX))
-            return parseWebColor(value);
+                if (named != null)
+                    return named;
+
+                if (ColorFunctions.isFunction(value))
+                    return toColor(ColorFunctions.parse(value));
+            }
+        }
 
-        return Color.decode(value);
+        // Equivalent to Color#decode(String), but allows the result to be cached.
+        return toColor(0xFF000000 | Integer.decode(value));
     }
 
     /**
@@ -143,36 +183,76 @@ public class ColorConverter implements ConfigResolver.Converter<Color> {
      */
     public Color parseWebColor(final String value) {
         Objects.requireNonNull(value);
+        return toColor(parseWebArgb(value));
+    }
+
+    /**
+     * @param argb The packed ARGB value of the color.
+     * @return The cached {@link Color} for this value if a cache is configured,
+     * otherwise a new {@link Color}.
+     */
+    private Color toColor(final int argb) {
+        return (cache != null) ? cache.intern(argb) : new Color(argb, true);
+    }
 
+    /**
+     * Decodes a web color in a single pass, reading each nibble directly
+     * from the {@link String} and packing the components into one ARGB int.
+     *
+     * @param value The web friendly hexadecimal {@link String}.
+     * @return The color as a packed ARGB int, as accepted by {@link Color#Color(int, boolean)}.
+     * @throws NumberFormatException If the hexadecimal input contains non parsable characters.
+     */
+    private static int parseWebArgb(final String value) {
         switch (value.length()) {
             case 4:
-                return new Color(
-                    Integer.parseInt(value.substring(1, 2), 16) * 17,
-                    Integer.parseInt(value.substring(2, 3), 16) * 17,
-                    Integer.parseInt(value.substring(3, 4), 16) * 17
-                );
+                return 0xFF000000
+                    | hexDigit(value, 1) * 0x110000
+                    | hexDigit(value, 2) * 0x1100
+                    | hexDigit(value, 3) * 0x11;
             case 5:
-                return new Color(
-                    Integer.parseInt(value.substring(1, 2), 16) * 17,
-                    Integer.parseInt(value.substring(2, 3), 16) * 17,
-                    Integer.parseInt(value.substring(3, 4), 16) * 17,
-                    Integer.parseInt(value.substring(4, 5), 16) * 17
-                );
+                return hexDigit(value, 4) * 0x11000000
+                    | hexDigit(value, 1) * 0x110000
+                    | hexDigit(value, 2) * 0x1100
+                    | hexDigit(value, 3) * 0x11;
             case 7:
-                return new Color(
-                    Integer.parseInt(value.substring(1, 3), 16),
-                    Integer.parseInt(value.substring(3, 5), 16),
-                    Integer.parseInt(value.substring(5, 7), 16)
-                );
+                return 0xFF000000 | hexDigits(value, 1, 7);
             case 9:
-                return new Color(
-                    Integer.parseInt(value.substring(1, 3), 16),
-                    Integer.parseInt(value.substring(3, 5), 16),
-                    Integer.parseInt(value.substring(5, 7), 16),
-                    Integer.parseInt(value.substring(7, 9), 16)
-                );
+                final int rgba = hexDigits(value, 1, 9);
+                return (rgba >>> 8) | (rgba << 24);
             default:
                 throw new IllegalArgumentException("Invalid hexadecimal color provided, if literal value decoding is required, specify 0x instead of #, otherwise expecting 3, 4, 6, or 8 characters only.");
         }
     }
+
+    /**
+     * @param value The {@link String} to read from.
+     * @param from The index of the first hexadecimal character, inclusive.
+     * @param to The index of the last hexadecimal character, exclusive.
+     * @return The characters in the range accumulated into an int, most significant nibble first.
+     * @throws NumberFormatException If any character in the range isn't hexadecimal.
+     */
+    private static int hexDigits(final String value, final int from, final int to) {
+        int result = 0;
+
+        for (int i = from; i < to; i++)
+            result = (result << 4) | hexDigit(value, i);
+
+        return result;
+    }
+
+    /**
+     * @param value The {@link String} to read from.
+     * @param index The index of the hexadecimal character.
+     * @return The numeric value of the character, between 0 and 15.
+     * @throws NumberFormatException If the character isn't hexadecimal.
+     */
+    private static int hexDigit(final String value, final int index) {
+        final int digit = Character.digit(value.charAt(index), 16);
+
+        if (digit == -1)
+            throw new NumberFormatException("For input string: \"" + value + "\" under radix 16");
+
+        return digit;
+    }
 }
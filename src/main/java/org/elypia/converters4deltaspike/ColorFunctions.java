@@ -0,0 +1,315 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+/**
+ * <p>
+ *     Parses the CSS functional color notations into a packed ARGB int.
+ *     The value is scanned once from left to right, keeping all state in
+ *     local variables so nothing is allocated while parsing.
+ * </p>
+ *
+ * This accepts values such as:
+ * <ul>
+ *     <li><code>rgb(12 34 56)</code></li>
+ *     <li><code>rgb(12 34 56 / 50%)</code></li>
+ *     <li><code>rgba(12, 34, 56, 0.5)</code></li>
+ *     <li><code>rgb(100% 50% 0%)</code></li>
+ *     <li><code>hsl(120deg 100% 50%)</code></li>
+ *     <li><code>hsla(0.5turn, 50%, 25%, 0.3)</code></li>
+ * </ul>
+ *
+ * <p>
+ *     Like browsers, components outside of their valid range are clamped
+ *     rather than rejected.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ * @see <a href="https://www.w3.org/TR/css-color-4/#rgb-functions">RGB Functions in CSS Color Module Level 4</a>
+ * @see <a href="https://www.w3.org/TR/css-color-4/#the-hsl-notation">HSL Functions in CSS Color Module Level 4</a>
+ */
+final class ColorFunctions {
+
+    private ColorFunctions() {
+        // Do nothing.
+    }
+
+    /**
+     * @param value The value to check.
+     * @return If the value is shaped like a color function, and should be parsed with {@link #parse(String)}.
+     */
+    static boolean isFunction(final String value) {
+        final int length = value.length();
+        return length != 0 && value.charAt(length - 1) == ')';
+    }
+
+    /**
+     * @param value A color in one of the CSS functional notations.
+     * @return The color as a packed ARGB int.
+     * @throws IllegalArgumentException If the value isn't a valid color function.
+     */
+    static int parse(final String value) {
+        final int open = value.indexOf('(');
+        final int end = value.length() - 1;
+
+        if (open == -1 || end < open || value.charAt(end) != ')')
+            throw new IllegalArgumentException("Color function must be in the format name(components).");
+
+        final boolean hsl;
+
+        if (isFunctionName(value, open, "rgb"))
+            hsl = false;
+        else if (isFunctionName(value, open, "hsl"))
+            hsl = true;
+        else
+            throw new IllegalArgumentException("Color function must be one of rgb, rgba, hsl, or hsla.");
+
+        double first = 0;
+        double second = 0;
+        double third = 0;
+        double alpha = 1;
+
+        boolean commas = false;
+        int components = 0;
+        int pos = skipWhitespace(value, open + 1, end);
+
+        while (components < 4) {
+            if (components > 0) {
+                final int next = skipWhitespace(value, pos, end);
+
+                if (next == end)
+                    break;
+
+                final char separator = value.charAt(next);
+
+                if (components == 1)
+                    commas = (separator == ',');
+
+                if (commas || components == 3) {
+                    final char expected = (commas) ? ',' : '/';
+
+                    if (separator != expected)
+                        throw new IllegalArgumentException("Expected '" + expected + "' at index " + next + " of color function.");
+
+                    pos = skipWhitespace(value, next + 1, end);
+                } else {
+                    if (next == pos)
+                        throw new IllegalArgumentException("Expected whitespace at index " + next + " of color function.");
+
+                    pos = next;
+                }
+            }
+
+            final int numberEnd = scanNumber(value, pos, end);
+
+            if (numberEnd == pos)
+                throw new IllegalArgumentException("Expected a number at index " + pos + " of color function.");
+
+            final double number = parseNumber(value, pos, numberEnd);
+
+            int unitEnd = numberEnd;
+
+            while (unitEnd < end && isUnitChar(value.charAt(unitEnd)))
+                unitEnd++;
+
+            final double component = applyUnit(value, numberEnd, unitEnd, number, hsl, components);
+
+            switch (components) {
+                case 0: first = component; break;
+                case 1: second = component; break;
+                case 2: third = component; break;
+                default: alpha = component;
+            }
+
+            components++;
+            pos = unitEnd;
+        }
+
+        if (components < 3)
+            throw new IllegalArgumentException("Color function requires 3 components, with an optional alpha component.");
+
+        if (skipWhitespace(value, pos, end) != end)
+            throw new IllegalArgumentException("Unexpected character at index " + pos + " of color function.");
+
+        final int a = (int)Math.round(clamp(alpha, 0, 1) * 255);
+
+        if (!hsl)
+            return pack(a, channel(first), channel(second), channel(third));
+
+        final double hue = ((first % 360) + 360) % 360;
+        final double saturation = clamp(second, 0, 1);
+        final double lightness = clamp(third, 0, 1);
+
+        return pack(
+            a,
+            channel(hslComponent(0, hue, saturation, lightness) * 255),
+            channel(hslComponent(8, hue, saturation, lightness) * 255),
+            channel(hslComponent(4, hue, saturation, lightness) * 255)
+        );
+    }
+
+    /**
+     * @param value The value being parsed.
+     * @param open The index of the opening bracket.
+     * @param name The name of the function, without the optional <code>a</code> suffix.
+     * @return If the value before the bracket is the name, or the name followed by <code>a</code>.
+     */
+    private static boolean isFunctionName(final String value, final int open, final String name) {
+        final int length = name.length();
+
+        if (!value.regionMatches(true, 0, name, 0, length))
+            return false;
+
+        return open == length || (open == length + 1 && (value.charAt(length) | 0x20) == 'a');
+    }
+
+    /**
+     * Converts the number to the scale used internally, which is 0 to 255
+     * for red, green, and blue, degrees for the hue, and 0 to 1 for anything else.
+     *
+     * @return The number, scaled according to the unit.
+     * @throws IllegalArgumentException If the unit isn't valid for this component.
+     */
+    private static double applyUnit(final String value, final int from, final int to, final double number, final boolean hsl, final int component) {
+        final int length = to - from;
+
+        if (length == 0) {
+            if (hsl && (component == 1 || component == 2))
+                return number / 100;
+
+            return number;
+        }
+
+        final boolean hue = hsl && component == 0;
+
+        if (!hue && length == 1 && value.charAt(from) == '%')
+            return (!hsl && component < 3) ? number * 255 / 100 : number / 100;
+
+        if (hue) {
+            if (isUnit(value, from, length, "deg"))
+                return number;
+            if (isUnit(value, from, length, "grad"))
+                return number * 0.9;
+            if (isUnit(value, from, length, "rad"))
+                return Math.toDegrees(number);
+            if (isUnit(value, from, length, "turn"))
+                return number * 360;
+        }
+
+        throw new IllegalArgumentException("Invalid unit at index " + from + " of color function.");
+    }
+
+    private static boolean isUnit(final String value, final int from, final int length, final String unit) {
+        return length == unit.length() && value.regionMatches(true, from, unit, 0, length);
+    }
+
+    private static boolean isUnitChar(final char c) {
+        return c == '%' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * @return The index after the number starting at <code>from</code>, or
+     * <code>from</code> if there is no number at that index.
+     */
+    private static int scanNumber(final String value, final int from, final int to) {
+        int pos = from;
+
+        if (pos < to && (value.charAt(pos) == '-' || value.charAt(pos) == '+'))
+            pos++;
+
+        final int digitsStart = pos;
+
+        while (pos < to && isDigit(value.charAt(pos)))
+            pos++;
+
+        int digits = pos - digitsStart;
+
+        if (pos < to && value.charAt(pos) == '.') {
+            final int fractionStart = ++pos;
+
+            while (pos < to && isDigit(value.charAt(pos)))
+                pos++;
+
+            digits += pos - fractionStart;
+        }
+
+        return (digits == 0) ? from : pos;
+    }
+
+    /**
+     * @return The value of a number already validated by {@link #scanNumber(String, int, int)}.
+     */
+    private static double parseNumber(final String value, final int from, final int to) {
+        int pos = from;
+        boolean negative = false;
+
+        if (value.charAt(pos) == '-' || value.charAt(pos) == '+')
+            negative = (value.charAt(pos++) == '-');
+
+        double number = 0;
+
+        while (pos < to && value.charAt(pos) != '.')
+            number = number * 10 + (value.charAt(pos++) - '0');
+
+        double scale = 1;
+
+        for (pos++; pos < to; pos++) {
+            scale /= 10;
+            number += (value.charAt(pos) - '0') * scale;
+        }
+
+        return (negative) ? -number : number;
+    }
+
+    private static int skipWhitespace(final String value, final int from, final int to) {
+        int pos = from;
+
+        while (pos < to && Character.isWhitespace(value.charAt(pos)))
+            pos++;
+
+        return pos;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * The HSL to RGB conversion from the CSS specification.
+     *
+     * @param n The offset for the channel, 0 for red, 8 for green, or 4 for blue.
+     * @return The channel value between 0 and 1.
+     */
+    private static double hslComponent(final int n, final double hue, final double saturation, final double lightness) {
+        final double k = (n + hue / 30) % 12;
+        final double a = saturation * Math.min(lightness, 1 - lightness);
+        return lightness - a * Math.max(-1, Math.min(Math.min(k - 3, 9 - k), 1));
+    }
+
+    private static int channel(final double value) {
+        return (int)Math.round(clamp(value, 0, 255));
+    }
+
+    private static double clamp(final double value, final double min, final double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static int pack(final int a, final int r, final int g, final int b) {
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Point;
+import java.io.File;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Period;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ *     Shared instances of the converters in this library by the type they
+ *     convert to, so a converter doesn't need to be referenced by name or
+ *     created each time a value is converted, for example:
+ * </p>
+ *
+ * <pre><code>
+ * Color color = ConfigResolver.resolve("theme.color")
+ *     .as(Color.class, ConverterRegistry.get(Color.class))
+ *     .getValue();
+ * </code></pre>
+ *
+ * <p>
+ *     Each {@link Enum} type gets its own {@link EnumConverter}, so the
+ *     non-qualified name of a constant can be used. Every converter in the
+ *     registry uses its default configuration and is safe to share between threads.
+ * </p>
+ *
+ * <p>
+ *     Converters initialize lookup tables and compile regular expressions the
+ *     first time they're used. {@link #warmUp()} can be called while the application
+ *     is starting, so this happens before the first value is converted.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public final class ConverterRegistry {
+
+    /** The converters by the exact type they convert to, this is never modified after it's created. */
+    private static final Map<Class<?>, ConfigResolver.Converter<?>> CONVERTERS = createConverters();
+
+    /** The converter for each type, computed the first time a type is looked up. */
+    private static final ClassValue<ConfigResolver.Converter<?>> LOOKUP = new ClassValue<>() {
+
+        @Override
+        protected ConfigResolver.Converter<?> computeValue(final Class<?> type) {
+            final ConfigResolver.Converter<?> converter = CONVERTERS.get(type);
+
+            if (converter != null)
+                return converter;
+
+            if (type.isEnum())
+                return new EnumConverter(type.asSubclass(Enum.class));
+
+            return null;
+        }
+    };
+
+    private ConverterRegistry() {
+        // Do nothing.
+    }
+
+    private static Map<Class<?>, ConfigResolver.Converter<?>> createConverters() {
+        final Map<Class<?>, ConfigResolver.Converter<?>> converters = new IdentityHashMap<>();
+        final CharacterConverter characterConverter = new CharacterConverter();
+
+        converters.put(Character.class, characterConverter);
+        converters.put(char.class, characterConverter);
+        converters.put(Color.class, new ColorConverter());
+        converters.put(Dimension.class, new DimensionConverter());
+        converters.put(Duration.class, new DurationConverter());
+        converters.put(Enum.class, new EnumConverter());
+        converters.put(File.class, new FileConverter());
+        converters.put(InetAddress.class, new InetAddressConverter());
+        converters.put(Instant.class, new InstantConverter());
+        converters.put(Locale.class, new LocaleConverter());
+        converters.put(Pattern.class, new PatternConverter());
+        converters.put(Period.class, new PeriodConverter());
+        converters.put(Point.class, new PointConverter());
+        converters.put(Subnets.class, new SubnetConverter());
+        converters.put(URI.class, new UriConverter());
+        converters.put(URL.class, new UrlConverter());
+        converters.put(UUID.class, new UuidConverter());
+        return converters;
+    }
+
+    /**
+     * @param type The type to convert to.
+     * @return If there is a converter for this type.
+     */
+    public static boolean isSupported(final Class<?> type) {
+        return LOOKUP.get(type) != null;
+    }
+
+    /**
+     * @param type The type to convert to, such as {@link Color} or an {@link Enum} type.
+     * @param <T> The type to convert to.
+     * @return The shared converter for this type.
+     * @throws NullPointerException If the type is null.
+     * @throws IllegalArgumentException If there is no converter for this type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ConfigResolver.Converter<T> get(final Class<T> type) {
+        final ConfigResolver.Converter<?> converter = LOOKUP.get(type);
+
+        if (converter == null)
+            throw new IllegalArgumentException("There is no converter for " + type.getName() + ".");
+
+        return (ConfigResolver.Converter<T>)converter;
+    }
+
+    /**
+     * @param type The type to convert to.
+     * @param value The value to convert.
+     * @param <T> The type to convert to.
+     * @return The value converted with the shared converter for this type.
+     * @throws IllegalArgumentException If there is no converter for this type,
+     * or the converter couldn't convert the value.
+     */
+    public static <T> T convert(final Class<T> type, final String value) {
+        return get(type).convert(value);
+    }
+
+    /**
+     * <p>
+     *     Converts a sample value with every converter, so lookup tables, regular
+     *     expressions, and classes they depend on are initialized before the
+     *     first real value is converted.
+     * </p>
+     *
+     * <p>
+     *     This doesn't resolve any host names, or access the file system or network.
+     * </p>
+     */
+    public static void warmUp() {
+        convert(char.class, "a");
+        convert(char.class, "0x41");
+        convert(Color.class, "#FFF");
+        convert(Color.class, "rebeccapurple");
+        convert(Color.class, "rgb(0 0 0 / 50%)");
+        convert(Color.class, "hsl(120deg 100% 50%)");
+        convert(Dimension.class, "1920x1080");
+        convert(Duration.class, "PT1S");
+        convert(Duration.class, "1h30m");
+        convert(Enum.class, "java.util.concurrent.TimeUnit#SECONDS");
+        convert(TimeUnit.class, "SECONDS");
+        convert(File.class, "warm-up");
+        convert(InetAddress.class, "127.0.0.1");
+        convert(InetAddress.class, "::1");
+        convert(Instant.class, "2020-01-01T00:00:00Z");
+        convert(Instant.class, "0");
+        convert(Locale.class, "en-US");
+        convert(Pattern.class, "a+");
+        convert(Period.class, "P1D");
+        convert(Point.class, "(0, 0)");
+        convert(Subnets.class, "10.0.0.0/8, 2001:db8::/32");
+        convert(URI.class, "https://elypia.org/");
+        convert(URL.class, "https://elypia.org/");
+        convert(UUID.class, "cebfb280-a7b0-4561-bc75-f71a1a08f66b");
+    }
+}
@@ -6,10 +6,7 @@ import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Shape;
 import java.awt.Window;
-import java.io.File;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <p>
@@ -25,38 +22,66 @@ import java.util.regex.Pattern;
  *
  * <p>The dimensions must not be negative, and must be {@link Integer} values.</p>
  *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     The value is scanned once, accumulating the digits of each side into a
+ *     <code>long</code> which stops growing once it's beyond {@link Integer#MAX_VALUE},
+ *     so overflow is only checked after the loop and nothing is allocated
+ *     other than the {@link Dimension}.
+ * </p>
+ *
  * @author seth@elypia.org (Seth Falco)
  * @since 1.1.0
  */
 public class DimensionConverter implements ConfigResolver.Converter<Dimension> {
 
-    /** Regular expression used to validate and tokenizer the {@link String}.  */
-    private static final Pattern DIMENSION_PATTERN = Pattern.compile("(?<x>\\d+)(?:x(?<y>\\d+))?");
-
     /**
      * @param value The value of the configuration property.
-     * @return A {@link File} which represents the configuration property value.
+     * @return A {@link Dimension} which represents the configuration property value.
      * @throws NullPointerException If the value is null.
+     * @throws IllegalArgumentException If the value isn't in the format {width/height} or {width}x{height}.
      * @throws NumberFormatException If the {@link Dimension} width or height is bigger than {@link Integer#MAX_VALUE}.
      */
     @Override
     public Dimension convert(final String value) {
         Objects.requireNonNull(value, "Dimensions can not be null.");
 
-        if (value.isEmpty())
+        final int length = value.length();
+
+        if (length == 0)
             throw new IllegalArgumentException("Dimensions can not be empty.");
 
-        Matcher matcher = DIMENSION_PATTERN.matcher(value);
+        long width = 0;
+        long height = 0;
+        int separator = -1;
+
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+
+            if (Numbers.isDigit(c)) {
+                if (separator == -1) {
+                    if (width <= Integer.MAX_VALUE)
+                        width = width * 10 + (c - '0');
+                } else if (height <= Integer.MAX_VALUE) {
+                    height = height * 10 + (c - '0');
+                }
+            } else if (c == 'x' && separator == -1 && i != 0) {
+                separator = i;
+            } else {
+                throw new IllegalArgumentException("Dimension doesn't match format: {width/height} or {width}x{height}");
+            }
+        }
 
-        if (!matcher.matches())
+        if (separator == length - 1)
             throw new IllegalArgumentException("Dimension doesn't match format: {width/height} or {width}x{height}");
 
-        String x = matcher.group(1);
-        String y = matcher.group(2);
+        if (separator == -1)
+            height = width;
 
-        int xValue = Integer.parseInt(x);
-        int yValue = (y != null) ? Integer.parseInt(y) : xValue;
+        if (width > Integer.MAX_VALUE || height > Integer.MAX_VALUE)
+            throw new NumberFormatException("Dimension width and height can't be bigger than " + Integer.MAX_VALUE + ".");
 
-        return new Dimension(xValue, yValue);
+        return new Dimension((int)width, (int)height);
     }
 }
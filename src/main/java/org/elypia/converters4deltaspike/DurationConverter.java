@@ -32,6 +32,12 @@ import java.util.Objects;
  * <ul>
  *     <li>{@link Duration} {@link String} format, for example <code>PT15M</code> (15 {@link ChronoUnit#MINUTES}).</li>
  *     <li>{@link Long} number of {@link ChronoUnit#MILLIS}, for example <code>5000</code> (5000 {@link ChronoUnit#MILLIS}).</li>
+ *     <li>
+ *         One or more numbers each followed by a unit, for example <code>1h30m</code>,
+ *         <code>250ms</code>, <code>1.5s</code>, or <code>2d</code>.
+ *         The units are <code>d</code>, <code>h</code>, <code>m</code>, <code>s</code>,
+ *         <code>ms</code>, <code>us</code> (or <code>&micro;s</code>), and <code>ns</code>.
+ *     </li>
  * </ul>
  *
  * @author seth@elypia.org (Seth Falco)
@@ -39,6 +45,8 @@ import java.util.Objects;
  */
 public class DurationConverter implements ConfigResolver.Converter<Duration> {
 
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
     /** If a literal number is provided, parse it as this {@link TemporalUnit}. */
     private final TemporalUnit unit;
 
@@ -59,25 +67,154 @@ public class DurationConverter implements ConfigResolver.Converter<Duration> {
     }
 
     /**
+     * <p>
+     *     The format is detected from the first character before parsing, so
+     *     an exception is never thrown and caught internally for valid values.
+     * </p>
+     *
      * @param value The value of the configuration property.
      * @return A {@link Period} which represents the configuration property value.
      * @throws NullPointerException If the value is null.
      * @throws IllegalArgumentException If the value is not a valid {@link Duration} {@link String},
-     * and isn't a valid {@link Long} value to be used with the defined {@link #unit}.
+     * isn't a valid {@link Long} value to be used with the defined {@link #unit},
+     * and isn't a valid sequence of numbers and units.
      */
     @Override
     public Duration convert(String value) {
         Objects.requireNonNull(value, "Value can't be null.");
 
-        try {
-            return Duration.parse(value);
-        } catch (DateTimeParseException ex) {
+        if (value.isEmpty())
+            throw new IllegalArgumentException("Value can't be empty.");
+
+        final int start = (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+
+        if (start < value.length() && (value.charAt(start) == 'P' || value.charAt(start) == 'p')) {
+            try {
+                return Duration.parse(value);
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("Value provided is not a valid duration String and can't be converted to a Duration.", ex);
+            }
+        }
+
+        if (Numbers.isInteger(value)) {
             try {
                 long number = Long.parseLong(value);
                 return Duration.of(number, unit);
-            } catch (RuntimeException rEx) {
-                throw new IllegalArgumentException("Value provided is not a valid duration String, or valid Long value and can't be converted to a Duration.", rEx);
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("Value provided is not a valid Long value and can't be converted to a Duration.", ex);
+            }
+        }
+
+        try {
+            return parseUnits(value, start);
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("Value provided is too large to be converted to a Duration.", ex);
+        }
+    }
+
+    /**
+     * Parses one or more numbers each followed by a unit, such as <code>1h30m</code>
+     * in a single pass. Fractions are applied one digit at a time to the number of nanoseconds
+     * in the unit, so they're exact as far as nanosecond precision allows.
+     *
+     * @param value The value of the configuration property.
+     * @param start The index after the sign, if the value has one.
+     * @return The sum of each number and unit.
+     * @throws IllegalArgumentException If the value isn't a valid sequence of numbers and units.
+     * @throws ArithmeticException If the duration is too large.
+     */
+    private static Duration parseUnits(final String value, final int start) {
+        final int length = value.length();
+
+        if (start == length)
+            throw new IllegalArgumentException("Value provided is not a valid duration, expected a number.");
+
+        long seconds = 0;
+        long nanos = 0;
+        int pos = start;
+
+        while (pos < length) {
+            final int wholeStart = pos;
+            long whole = 0;
+
+            for (; pos < length && Numbers.isDigit(value.charAt(pos)); pos++)
+                whole = Math.addExact(Math.multiplyExact(whole, 10), value.charAt(pos) - '0');
+
+            final int wholeEnd = pos;
+            int fractionStart = pos;
+            int fractionEnd = pos;
+
+            if (pos < length && value.charAt(pos) == '.') {
+                fractionStart = ++pos;
+
+                while (pos < length && Numbers.isDigit(value.charAt(pos)))
+                    pos++;
+
+                fractionEnd = pos;
+            }
+
+            if (wholeStart == wholeEnd && fractionStart == fractionEnd)
+                throw new IllegalArgumentException("Value provided is not a valid duration, expected a number at index " + wholeStart + ".");
+
+            final int unitStart = pos;
+
+            while (pos < length && Character.isLetter(value.charAt(pos)))
+                pos++;
+
+            final long unitNanos = unitNanos(value, unitStart, pos);
+
+            if (unitNanos == -1)
+                throw new IllegalArgumentException("Value provided is not a valid duration, expected one of d, h, m, s, ms, us, or ns at index " + unitStart + ".");
+
+            if (unitNanos >= NANOS_PER_SECOND) {
+                seconds = Math.addExact(seconds, Math.multiplyExact(whole, unitNanos / NANOS_PER_SECOND));
+            } else {
+                final long unitsPerSecond = NANOS_PER_SECOND / unitNanos;
+                seconds = Math.addExact(seconds, whole / unitsPerSecond);
+                nanos += (whole % unitsPerSecond) * unitNanos;
             }
+
+            long scale = unitNanos;
+
+            for (int i = fractionStart; i < fractionEnd && scale != 0; i++) {
+                scale /= 10;
+                nanos += (value.charAt(i) - '0') * scale;
+            }
+
+            seconds = Math.addExact(seconds, nanos / NANOS_PER_SECOND);
+            nanos %= NANOS_PER_SECOND;
+        }
+
+        final Duration duration = Duration.ofSeconds(seconds, nanos);
+        return (value.charAt(0) == '-') ? duration.negated() : duration;
+    }
+
+    /**
+     * @return The number of nanoseconds in the unit between the indexes, or -1 if it's not a unit.
+     */
+    private static long unitNanos(final String value, final int from, final int to) {
+        switch (to - from) {
+            case 1:
+                switch (value.charAt(from)) {
+                    case 'd': return 86_400L * NANOS_PER_SECOND;
+                    case 'h': return 3_600L * NANOS_PER_SECOND;
+                    case 'm': return 60L * NANOS_PER_SECOND;
+                    case 's': return NANOS_PER_SECOND;
+                    default: return -1;
+                }
+            case 2:
+                if (value.charAt(from + 1) != 's')
+                    return -1;
+
+                switch (value.charAt(from)) {
+                    case 'm': return 1_000_000L;
+                    case 'u':
+                    case '\u00B5': return 1_000L;
+                    case 'n': return 1L;
+                    default: return -1;
+                }
+            default:
+                return -1;
         }
     }
 }
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     Splits a delimited list of elements, such as <code>a, b, c</code>,
+ *     and converts each element, for the converters of collection types.
+ * </p>
+ *
+ * <p>
+ *     Whitespace around each element is trimmed, and a delimiter or backslash
+ *     can be kept in an element by escaping it with a backslash, for example
+ *     <code>a\,b, c</code> is the elements <code>a,b</code> and <code>c</code>.
+ *     Any other backslash is kept as it is, so elements such as
+ *     <code>\d+</code> or <code>C:\temp</code> don't need to be escaped.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     The value is scanned once from left to right. Elements without escapes
+ *     are taken with {@link String#substring(int, int)}, only elements which
+ *     contain an escape are copied through a {@link StringBuilder}.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+final class Elements {
+
+    /** The default number of elements at which they're converted in parallel. */
+    static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+
+    private Elements() {
+        // Do nothing.
+    }
+
+    /**
+     * @param delimiter The character which separates elements.
+     * @return The delimiter.
+     * @throws IllegalArgumentException If the delimiter is a backslash or whitespace.
+     */
+    static char requireDelimiter(final char delimiter) {
+        if (delimiter == '\\' || Character.isWhitespace(delimiter))
+            throw new IllegalArgumentException("Delimiter can't be a backslash or whitespace.");
+
+        return delimiter;
+    }
+
+    /**
+     * @param parallelThreshold The number of elements at which they're converted in parallel.
+     * @return The parallel threshold.
+     * @throws IllegalArgumentException If the threshold isn't greater than 0.
+     */
+    static int requireThreshold(final int parallelThreshold) {
+        if (parallelThreshold <= 0)
+            throw new IllegalArgumentException("Parallel threshold must be greater than 0.");
+
+        return parallelThreshold;
+    }
+
+    /**
+     * @param value The delimited list of elements.
+     * @param delimiter The character which separates elements.
+     * @return The elements with whitespace trimmed and escapes removed,
+     * or an empty list if the value is empty or only whitespace.
+     * @throws IllegalArgumentException If an element is empty.
+     */
+    static List<String> split(final String value, final char delimiter) {
+        final List<String> elements = new ArrayList<>();
+        final Scanner scanner = new Scanner(value, delimiter, delimiter);
+
+        if (scanner.isAtEnd())
+            return elements;
+
+        do {
+            final String element = scanner.next(delimiter, delimiter);
+
+            if (element.isEmpty())
+                throw new IllegalArgumentException("Element " + elements.size() + " can't be empty.");
+
+            elements.add(element);
+        } while (scanner.skip(delimiter));
+
+        return elements;
+    }
+
+    /**
+     * Converts each element into the array at the same index, in
+     * parallel if there are at least as many elements as the threshold.
+     * Elements converted in parallel are converted with the context
+     * {@link ClassLoader} of the calling thread, so converters which load
+     * classes, such as {@link EnumConverter}, behave the same either way.
+     *
+     * @param converter The converter to convert each element with.
+     * @param elements The elements to convert.
+     * @param results The array to put the converted elements in, which is the same length as the elements.
+     * @param parallelThreshold The number of elements at which they're converted in parallel.
+     * @throws IllegalArgumentException If any element can't be converted.
+     */
+    static <T> void convert(final ConfigResolver.Converter<? extends T> converter, final List<String> elements, final T[] results, final int parallelThreshold) {
+        final int size = elements.size();
+
+        if (size < parallelThreshold) {
+            for (int i = 0; i < size; i++)
+                results[i] = converter.convert(elements.get(i));
+        } else {
+            final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+
+            IntStream.range(0, size).parallel().forEach((i) -> {
+                final Thread thread = Thread.currentThread();
+                final ClassLoader previous = thread.getContextClassLoader();
+
+                if (previous == loader) {
+                    results[i] = converter.convert(elements.get(i));
+                    return;
+                }
+
+                thread.setContextClassLoader(loader);
+
+                try {
+                    results[i] = converter.convert(elements.get(i));
+                } finally {
+                    thread.setContextClassLoader(previous);
+                }
+            });
+        }
+    }
+
+    private static int skipWhitespace(final String value, int pos, final int to) {
+        while (pos < to && Character.isWhitespace(value.charAt(pos)))
+            pos++;
+
+        return pos;
+    }
+
+    /**
+     * Reads elements from a value one at a time, for values with more
+     * structure than a single delimiter, such as <code>key=value</code> pairs.
+     */
+    static final class Scanner {
+
+        /** The value being scanned. */
+        private final String value;
+
+        /** The length of the {@link #value}. */
+        private final int length;
+
+        /** A character which may be escaped with a backslash. */
+        private final char escapable;
+
+        /** Another character which may be escaped with a backslash. */
+        private final char otherEscapable;
+
+        /** The index of the next character to read. */
+        private int pos;
+
+        /**
+         * @param value The value to scan, leading whitespace is skipped.
+         * @param escapable A character which may be escaped with a backslash, such as the delimiter.
+         * @param otherEscapable Another character which may be escaped with a backslash, such as a separator.
+         */
+        Scanner(final String value, final char escapable, final char otherEscapable) {
+            this.value = value;
+            this.escapable = escapable;
+            this.otherEscapable = otherEscapable;
+            this.length = value.length();
+            this.pos = skipWhitespace(value, 0, length);
+        }
+
+        /**
+         * @return If there is nothing left to read, such as when the value is empty or only whitespace.
+         */
+        boolean isAtEnd() {
+            return pos == length;
+        }
+
+        /**
+         * Reads up to, but not including, the next unescaped occurrence of either character.
+         * Only a backslash followed by a backslash or an escapable character is an escape.
+         *
+         * @param stop A character which ends the element.
+         * @param otherStop Another character which ends the element.
+         * @return The element with trailing whitespace trimmed and escapes removed, possibly empty.
+         */
+        String next(final char stop, final char otherStop) {
+            final int from = pos;
+            StringBuilder builder = null;
+            int copied = from;
+            int end = from;
+
+            while (pos < length) {
+                final char c = value.charAt(pos);
+
+                if (c == stop || c == otherStop)
+                    break;
+
+                if (c == '\\' && pos + 1 < length && isEscapable(value.charAt(pos + 1))) {
+                    if (builder == null)
+                        builder = new StringBuilder(length - from);
+
+                    builder.append(value, copied, pos).append(value.charAt(pos + 1));
+                    pos += 2;
+                    copied = pos;
+                    end = pos;
+                    continue;
+                }
+
+                pos++;
+
+                if (!Character.isWhitespace(c))
+                    end = pos;
+            }
+
+            return (builder == null)
+                ? value.substring(from, end)
+                : builder.append(value, copied, end).toString();
+        }
+
+        private boolean isEscapable(final char c) {
+            return c == '\\' || c == escapable || c == otherEscapable;
+        }
+
+        /**
+         * Skips the character if it's next, and any whitespace after it.
+         *
+         * @param c The character to skip.
+         * @return If the character was next and skipped.
+         */
+        boolean skip(final char c) {
+            if (pos == length || value.charAt(pos) != c)
+                return false;
+
+            pos = skipWhitespace(value, pos + 1, length);
+            return true;
+        }
+    }
+}
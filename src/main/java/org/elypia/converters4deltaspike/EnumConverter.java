@@ -21,16 +21,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.DayOfWeek;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * <p>
  *     Converts an {@link Enum} {@link String} into a Java {@link Enum} object.
  *     This converter may depend on Java naming conventions being followed for {@link Package}s,
- *     {@link Class}s, and {@link Enum} constants in future and is case-sensitive.
+ *     {@link Class}s, and {@link Enum} constants in future and is case-sensitive,
+ *     unless ignoring case is enabled for a specific enum type.
  *
  *     If you aren't following Java naming/coding conventions, then it's strongly recommend
  *     you adjust your project to do so to maximize reliability.
@@ -53,12 +53,12 @@ public class EnumConverter implements ConfigResolver.Converter<Enum> {
 
     private static final Logger logger = LoggerFactory.getLogger(EnumConverter.class);
 
-    /** Validates that the value is an enum, and splits it into it's components. */
-    private static final Pattern ENUM_PATTERN = Pattern.compile("(?<package>(?:[a-z\\d.]+)*)\\.(?<class>[A-Za-z\\d]+)[#.](?<name>[A-Z\\d_]+)");
-
     /** The enum type required by the converter. */
     private final Class<? extends Enum> requiredEnumType;
 
+    /** Constants of the {@link #requiredEnumType} by name, or null if any {@link Enum} is accepted. */
+    private final EnumIndex index;
+
     /**
      * Initialize the {@link EnumConverter} to accept any {@link Enum} constant.
      */
@@ -92,6 +92,56 @@ public class EnumConverter implements ConfigResolver.Converter<Enum> {
      */
     public EnumConverter(Class<? extends Enum> requiredEnumType) {
         this.requiredEnumType = Objects.requireNonNull(requiredEnumType);
+        this.index = (requiredEnumType.isEnum()) ? EnumIndex.of(requiredEnumType) : null;
+    }
+
+    /**
+     * Initialize the {@link EnumConverter} to accept enum constants for the
+     * specific enum type, optionally matching constant names regardless of case,
+     * so <code>seconds</code>, <code>Seconds</code>, and <code>SECONDS</code> are equivalent.
+     *
+     * @param requiredEnumType An enum class, such as {@link TimeUnit}, or {@link DayOfWeek}.
+     * @param ignoreCase If the case of non-qualified constant names should be ignored.
+     * @throws IllegalArgumentException If the type isn't an enum class, or if
+     * ignoring case and two constants only differ by case.
+     * @see #EnumConverter(Class, boolean, Map)
+     */
+    public EnumConverter(Class<? extends Enum> requiredEnumType, boolean ignoreCase) {
+        this(requiredEnumType, ignoreCase, Map.of());
+    }
+
+    /**
+     * <p>
+     *     Initialize the {@link EnumConverter} to accept enum constants for the
+     *     specific enum type, as well as aliases for them, for example:
+     * </p>
+     *
+     * <pre><code>
+     * public class TimeUnitConverter extends EnumConverter {
+     *
+     *     public TimeUnitConverter() {
+     *         super(TimeUnit.class, true, Map.of("s", TimeUnit.SECONDS, "ms", TimeUnit.MILLISECONDS));
+     *     }
+     * }
+     * </code></pre>
+     *
+     * <p>
+     *     The lookup structure for the names and aliases is built once when the
+     *     converter is initialized, so converting a value never allocates, even
+     *     when ignoring case. This only applies to non-qualified names, fully qualified
+     *     names must always match the constant name exactly.
+     * </p>
+     *
+     * @param requiredEnumType An enum class, such as {@link TimeUnit}, or {@link DayOfWeek}.
+     * @param ignoreCase If the case of non-qualified constant names and aliases should be ignored.
+     * @param aliases Additional names for constants of the required enum type.
+     * @throws IllegalArgumentException If the type isn't an enum class, if an alias refers to
+     * a constant of another type, or if two names or aliases would match the same value
+     * but refer to different constants.
+     */
+    public EnumConverter(Class<? extends Enum> requiredEnumType, boolean ignoreCase, Map<String, ? extends Enum> aliases) {
+        this.requiredEnumType = Objects.requireNonNull(requiredEnumType);
+        this.index = EnumIndex.of(requiredEnumType, Objects.requireNonNull(aliases), ignoreCase);
     }
 
     /**
@@ -104,33 +154,112 @@ public class EnumConverter implements ConfigResolver.Converter<Enum> {
     public Enum convert(String value) {
         Objects.requireNonNull(value, "Value can't be null.");
 
-        if (requiredEnumType != null) {
-            try {
-                return Enum.valueOf(requiredEnumType, value);
-            } catch (IllegalArgumentException ex) {
+        if (index != null) {
+            final Enum constant = index.get(value);
+
+            if (constant != null)
+                return constant;
+
+            if (logger.isDebugEnabled())
                 logger.debug("EnumConverter with required type specified didn't match the constant by name, falling back to fully qualified name.");
-            }
         }
 
-        Matcher matcher = ENUM_PATTERN.matcher(value);
+        final int separator = indexOfConstant(value);
 
-        if (!matcher.matches())
+        if (separator == -1)
             throw new IllegalArgumentException("Value does not follow Java naming conventions, expecting input like: java.time.DayOfWeek.MONDAY");
 
-        try {
-            String className = matcher.group(1) + "." + matcher.group(2);
+        final Class type = ClassCache.forName(value.substring(0, separator));
 
-            Class type = Class.forName(className);
+        if (type == null)
+            throw new IllegalArgumentException("Class specified doesn't exist.");
 
-            if (!type.isEnum())
-                throw new IllegalArgumentException("Value provided isn't an enumerated type.");
+        if (!type.isEnum())
+            throw new IllegalArgumentException("Value provided isn't an enumerated type.");
 
-            if (!requiredEnumType.isAssignableFrom(type))
-                throw new IllegalArgumentException("Class provided is not the required type.");
+        if (!requiredEnumType.isAssignableFrom(type))
+            throw new IllegalArgumentException("Class provided is not the required type.");
 
-            return Enum.valueOf(type, matcher.group(3));
-        } catch (ClassNotFoundException ex) {
-            throw new IllegalArgumentException("Class specified doesn't exist.", ex);
+        final Enum constant = EnumIndex.of(type).get(value, separator + 1, value.length());
+
+        if (constant == null)
+            throw new IllegalArgumentException("Enum constant specified doesn't exist in " + type.getName() + ".");
+
+        return constant;
+    }
+
+    /**
+     * <p>
+     *     Validates that the value is a fully qualified {@link Enum} constant,
+     *     and finds where the class name ends and the constant name begins.
+     *     This reads each character at most once, so it runs in linear time
+     *     regardless of the input.
+     * </p>
+     *
+     * The value must be made of the following components:
+     * <ul>
+     *     <li>A package of one or more segments matching <code>[a-z\d]+</code>, seperated by <code>.</code>.</li>
+     *     <li>A <code>.</code> followed by the class name matching <code>[A-Za-z\d]+</code>.</li>
+     *     <li>A <code>.</code> or <code>#</code> followed by the constant name matching <code>[A-Z\d_]+</code>.</li>
+     * </ul>
+     *
+     * @param value The value of the configuration property.
+     * @return The index of the <code>.</code> or <code>#</code> before the constant name,
+     * or -1 if the value isn't a fully qualified {@link Enum} constant.
+     */
+    static int indexOfConstant(final String value) {
+        int index = value.length() - 1;
+
+        while (index >= 0 && isConstantChar(value.charAt(index)))
+            index--;
+
+        final int separator = index;
+
+        if (separator < 0 || separator == value.length() - 1)
+            return -1;
+
+        final char separatorChar = value.charAt(separator);
+
+        if (separatorChar != '.' && separatorChar != '#')
+            return -1;
+
+        index--;
+
+        while (index >= 0 && isClassChar(value.charAt(index)))
+            index--;
+
+        if (index < 0 || index == separator - 1 || value.charAt(index) != '.')
+            return -1;
+
+        int segmentLength = 0;
+
+        for (int i = 0; i < index; i++) {
+            final char c = value.charAt(i);
+
+            if (c == '.') {
+                if (segmentLength == 0)
+                    return -1;
+
+                segmentLength = 0;
+            } else if (isPackageChar(c)) {
+                segmentLength++;
+            } else {
+                return -1;
+            }
         }
+
+        return (segmentLength == 0) ? -1 : separator;
+    }
+
+    private static boolean isPackageChar(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isClassChar(final char c) {
+        return (c >= 'A' && c <= 'Z') || isPackageChar(c);
+    }
+
+    private static boolean isConstantChar(final char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
     }
 }
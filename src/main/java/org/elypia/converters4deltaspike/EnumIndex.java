@@ -0,0 +1,234 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ *     An immutable index of the constants of an {@link Enum} type by name.
+ *     The names are held in a sorted array and searched with a binary search,
+ *     so a missing name returns null rather than throwing an exception like
+ *     {@link Enum#valueOf(Class, String)} does.
+ * </p>
+ *
+ * <p>
+ *     Indexes may also ignore case, in which case names are compared
+ *     character by character with their case folded, and may contain aliases
+ *     which map additional names to constants.
+ * </p>
+ *
+ * <p>
+ *     Indexes without aliases are built once per {@link Enum} type and
+ *     shared through {@link #of(Class)} and {@link #ofIgnoreCase(Class)}.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+final class EnumIndex {
+
+    /** The shared case-sensitive index of each {@link Enum} type, computed the first time a type is used. */
+    private static final ClassValue<EnumIndex> INDEXES = new ClassValue<>() {
+
+        @Override
+        protected EnumIndex computeValue(final Class<?> type) {
+            return new EnumIndex(type, Map.of(), false);
+        }
+    };
+
+    /** The shared case-insensitive index of each {@link Enum} type, computed the first time a type is used. */
+    private static final ClassValue<EnumIndex> IGNORE_CASE_INDEXES = new ClassValue<>() {
+
+        @Override
+        protected EnumIndex computeValue(final Class<?> type) {
+            return new EnumIndex(type, Map.of(), true);
+        }
+    };
+
+    /** If names are compared with their case folded. */
+    private final boolean ignoreCase;
+
+    /** The names of the constants and aliases, in ascending order. */
+    private final String[] names;
+
+    /** The constants, in the same order as {@link #names}. */
+    private final Enum<?>[] constants;
+
+    /**
+     * @param type The {@link Enum} type.
+     * @param aliases Additional names of constants.
+     * @param ignoreCase If names should be compared with their case folded.
+     * @throws IllegalArgumentException If two names or aliases would be equal
+     * but refer to different constants.
+     */
+    private EnumIndex(final Class<?> type, final Map<String, ? extends Enum> aliases, final boolean ignoreCase) {
+        final List<Map.Entry<String, Enum<?>>> entries = new ArrayList<>();
+
+        for (Object constant : type.getEnumConstants())
+            entries.add(Map.entry(((Enum<?>)constant).name(), (Enum<?>)constant));
+
+        for (Map.Entry<String, ? extends Enum> alias : aliases.entrySet())
+            entries.add(Map.entry(alias.getKey(), alias.getValue()));
+
+        entries.sort((a, b) -> compare(a.getKey(), b.getKey(), 0, b.getKey().length(), ignoreCase));
+
+        final List<Map.Entry<String, Enum<?>>> unique = new ArrayList<>(entries.size());
+
+        for (Map.Entry<String, Enum<?>> entry : entries) {
+            if (!unique.isEmpty()) {
+                final Map.Entry<String, Enum<?>> previous = unique.get(unique.size() - 1);
+                final String name = entry.getKey();
+
+                if (compare(previous.getKey(), name, 0, name.length(), ignoreCase) == 0) {
+                    if (previous.getValue() != entry.getValue())
+                        throw new IllegalArgumentException("Name " + name + " is ambiguous, it refers to both " + previous.getValue() + " and " + entry.getValue() + ".");
+
+                    continue;
+                }
+            }
+
+            unique.add(entry);
+        }
+
+        final int size = unique.size();
+        final String[] names = new String[size];
+        final Enum<?>[] constants = new Enum<?>[size];
+
+        for (int i = 0; i < size; i++) {
+            names[i] = unique.get(i).getKey();
+            constants[i] = unique.get(i).getValue();
+        }
+
+        this.ignoreCase = ignoreCase;
+        this.names = names;
+        this.constants = constants;
+    }
+
+    /**
+     * @param type An {@link Enum} type.
+     * @return The shared case-sensitive index of constants for this type.
+     * @throws IllegalArgumentException If the type isn't an {@link Enum} type.
+     */
+    static EnumIndex of(final Class<?> type) {
+        return INDEXES.get(requireEnum(type));
+    }
+
+    /**
+     * @param type An {@link Enum} type.
+     * @return The shared case-insensitive index of constants for this type.
+     * @throws IllegalArgumentException If the type isn't an {@link Enum} type,
+     * or if two constants only differ by case.
+     */
+    static EnumIndex ofIgnoreCase(final Class<?> type) {
+        return IGNORE_CASE_INDEXES.get(requireEnum(type));
+    }
+
+    /**
+     * @param type An {@link Enum} type.
+     * @param aliases Additional names of constants, which must be constants of the type.
+     * @param ignoreCase If names should be compared with their case folded.
+     * @return A new index of the constants and aliases for this type.
+     * @throws IllegalArgumentException If the type isn't an {@link Enum} type, if an alias
+     * refers to a constant of a different type, or if two names would be equal but refer
+     * to different constants.
+     */
+    static EnumIndex of(final Class<?> type, final Map<String, ? extends Enum> aliases, final boolean ignoreCase) {
+        requireEnum(type);
+
+        if (aliases.isEmpty())
+            return (ignoreCase) ? ofIgnoreCase(type) : of(type);
+
+        for (Map.Entry<String, ? extends Enum> alias : aliases.entrySet()) {
+            if (alias.getKey() == null || alias.getValue() == null)
+                throw new IllegalArgumentException("Aliases can't contain null names or constants.");
+
+            if (alias.getValue().getDeclaringClass() != type)
+                throw new IllegalArgumentException("Alias " + alias.getKey() + " refers to a constant which isn't a " + type.getName() + ".");
+        }
+
+        return new EnumIndex(type, aliases, ignoreCase);
+    }
+
+    private static Class<?> requireEnum(final Class<?> type) {
+        if (!type.isEnum())
+            throw new IllegalArgumentException("Type " + type.getName() + " isn't an enumerated type.");
+
+        return type;
+    }
+
+    /**
+     * @param name The name of the constant.
+     * @return The constant with this name, or null if there is no constant by this name.
+     */
+    Enum<?> get(final String name) {
+        return get(name, 0, name.length());
+    }
+
+    /**
+     * @param value The {@link String} which contains the name of the constant.
+     * @param from The index the name starts at, inclusive.
+     * @param to The index the name ends at, exclusive.
+     * @return The constant with this name, or null if there is no constant by this name.
+     */
+    Enum<?> get(final String value, final int from, final int to) {
+        int low = 0;
+        int high = names.length - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = compare(names[mid], value, from, to, ignoreCase);
+
+            if (comparison < 0)
+                low = mid + 1;
+            else if (comparison > 0)
+                high = mid - 1;
+            else
+                return constants[mid];
+        }
+
+        return null;
+    }
+
+    /**
+     * Compares a name to a region of another {@link String} without
+     * creating a substring, in the same order as {@link String#compareTo(String)},
+     * or {@link String#compareToIgnoreCase(String)} if ignoring case.
+     */
+    private static int compare(final String name, final String value, final int from, final int to, final boolean ignoreCase) {
+        final int nameLength = name.length();
+        final int regionLength = to - from;
+        final int length = Math.min(nameLength, regionLength);
+
+        for (int i = 0; i < length; i++) {
+            char a = name.charAt(i);
+            char b = value.charAt(from + i);
+
+            if (a != b && ignoreCase) {
+                a = Character.toLowerCase(Character.toUpperCase(a));
+                b = Character.toLowerCase(Character.toUpperCase(b));
+            }
+
+            if (a != b)
+                return a - b;
+        }
+
+        return nameLength - regionLength;
+    }
+}
@@ -20,11 +20,45 @@ import org.apache.deltaspike.core.api.config.ConfigResolver;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * For converting configuration property values to an IP address.
+ * <p>
+ *     For converting configuration property values to an IP address.
+ * </p>
+ *
+ * <p>
+ *     IP address literals, such as <code>192.168.0.1</code> or <code>::1</code>,
+ *     are always converted in place without consulting the {@link Resolver}.
+ *     Host names are passed to the {@link Resolver}, which by default is
+ *     {@link InetAddress#getByName(String)} on the calling thread.
+ * </p>
+ *
+ * <p>
+ *     Optionally, host names can be resolved on an {@link Executor} with
+ *     {@link #convertAsync(String)}, and the results kept for a fixed
+ *     time to live so repeated conversions don't resolve the host again.
+ *     Failed resolutions are never kept, and expired addresses are removed
+ *     at most once per time to live, when another host is resolved.
+ * </p>
+ *
+ * <p>
+ *     Alternatively, the converter can be limited to IP address literals with
+ *     {@link #InetAddressConverter(boolean)}, so host names are rejected and
+ *     converting a value is guaranteed not to cause any network I/O.
+ * </p>
  *
  * @author seth@elypia.org (Seth Falco)
  * @since 1.0.0
@@ -32,20 +66,260 @@ import java.util.regex.Pattern;
  */
 public class InetAddressConverter implements ConfigResolver.Converter<InetAddress> {
 
+    /**
+     * Resolves a host name to an IP address, this can be implemented
+     * to use an alternative name service, or to stub resolution in tests.
+     *
+     * @since 1.1.0
+     */
+    @FunctionalInterface
+    public interface Resolver {
+
+        /**
+         * @param host The host name to resolve, this is never an IP address literal.
+         * @return The IP address of the host.
+         * @throws UnknownHostException If the IP address of the host couldn't be obtained.
+         */
+        InetAddress resolve(String host) throws UnknownHostException;
+    }
+
+    /** Used in place of a {@link Resolver} when only IP address literals are accepted. */
+    private static final Resolver LITERAL_ONLY = (host) -> {
+        throw new IllegalArgumentException("Value isn't an IP address literal, and host names aren't accepted.");
+    };
+
+    /** Resolves host names which aren't IP address literals. */
+    private final Resolver resolver;
+
+    /** How long a resolved address is kept in nanoseconds, or 0 if addresses aren't cached. */
+    private final long ttlNanos;
+
+    /** Where host names are resolved. */
+    private final Executor executor;
+
+    /** Resolved or in-flight addresses by host name. */
+    private final Map<String, Resolution> cache;
+
+    /** The {@link System#nanoTime()} after which expired addresses are next removed from the {@link #cache}. */
+    private final AtomicLong nextPurge;
+
+    /**
+     * Constructs the {@link InetAddressConverter} to resolve host names
+     * with {@link InetAddress#getByName(String)} on the calling thread,
+     * with no caching beyond what the JVM already does.
+     */
+    public InetAddressConverter() {
+        this(InetAddress::getByName, Duration.ZERO, Runnable::run);
+    }
+
+    /**
+     * Constructs the {@link InetAddressConverter} to resolve host names with
+     * {@link InetAddress#getByName(String)} on a shared pool of up to 4 daemon threads,
+     * keeping resolved addresses for the time to live. A dedicated pool is used so
+     * slow name resolution never blocks the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @param ttl How long to keep resolved addresses, or {@link Duration#ZERO} to not cache them.
+     * @throws IllegalArgumentException If the time to live is negative.
+     * @since 1.1.0
+     */
+    public InetAddressConverter(final Duration ttl) {
+        this(InetAddress::getByName, ttl, DefaultExecutor.INSTANCE);
+    }
+
+    /**
+     * Constructs the {@link InetAddressConverter} to optionally reject anything
+     * other than IP address literals, so a host name is never resolved.
+     *
+     * @param literalOnly If values must be IPv4 or IPv6 address literals.
+     * @since 1.1.0
+     */
+    public InetAddressConverter(final boolean literalOnly) {
+        this((literalOnly) ? LITERAL_ONLY : InetAddress::getByName, Duration.ZERO, Runnable::run);
+    }
+
+    /**
+     * @param resolver Resolves host names which aren't IP address literals.
+     * @param ttl How long to keep resolved addresses, or {@link Duration#ZERO} to not cache them.
+     * @param executor Where host names are resolved, such as <code>Runnable::run</code> for the calling thread.
+     * @throws IllegalArgumentException If the time to live is negative.
+     * @since 1.1.0
+     */
+    public InetAddressConverter(final Resolver resolver, final Duration ttl, final Executor executor) {
+        this.resolver = Objects.requireNonNull(resolver);
+        this.executor = Objects.requireNonNull(executor);
+
+        if (ttl.isNegative())
+            throw new IllegalArgumentException("Time to live can't be negative.");
+
+        this.ttlNanos = ttl.toNanos();
+        this.cache = (ttlNanos == 0) ? null : new ConcurrentHashMap<>();
+        this.nextPurge = new AtomicLong(System.nanoTime() + ttlNanos);
+    }
+
     /**
      * @param value The value of the configuration property.
-     * @return A {@link Pattern} which represents the compiled configuration property.
+     * @return The {@link InetAddress} which represents the configuration property.
      * @throws NullPointerException If the value is null.
-     * @throws IllegalArgumentException If a host name was specified and the IP address couldn't be obtained.
+     * @throws IllegalArgumentException If a host name was specified and the IP address couldn't be obtained,
+     * or if only literals are accepted and the value isn't an IP address literal.
      */
     @Override
     public InetAddress convert(String value) {
+        try {
+            return convertAsync(value).join();
+        } catch (CompletionException ex) {
+            final Throwable cause = ex.getCause();
+
+            if (cause instanceof IllegalArgumentException)
+                throw (IllegalArgumentException)cause;
+
+            throw new IllegalArgumentException("Unable to get IP address of the named host.", cause);
+        }
+    }
+
+    /**
+     * @param value The value of the configuration property.
+     * @return A future which completes with the {@link InetAddress} the configuration property
+     * represents, or exceptionally with an {@link IllegalArgumentException} if a host name was
+     * specified and the IP address couldn't be obtained, or host names aren't accepted.
+     * This is already complete for IP address literals and cached host names.
+     * @throws NullPointerException If the value is null.
+     * @throws IllegalArgumentException If the value is an invalid IP address literal.
+     * @since 1.1.0
+     */
+    public CompletableFuture<InetAddress> convertAsync(String value) {
         Objects.requireNonNull(value, "Value can't be null.");
 
+        final InetAddress literal = InetLiterals.parse(value);
+
+        if (literal != null)
+            return CompletableFuture.completedFuture(literal);
+
+        if (cache == null)
+            return resolve(value, new CompletableFuture<>());
+
+        final long now = System.nanoTime();
+        Resolution existing = cache.get(value);
+
+        if (existing != null && existing.isAlive(now))
+            return existing.future;
+
+        final Resolution created = new Resolution(new CompletableFuture<>(), now + ttlNanos);
+
+        while (true) {
+            final boolean stored = (existing == null)
+                ? cache.putIfAbsent(value, created) == null
+                : cache.replace(value, existing, created);
+
+            if (stored)
+                break;
+
+            existing = cache.get(value);
+
+            if (existing != null && existing.isAlive(now))
+                return existing.future;
+        }
+
+        created.future.whenComplete((address, ex) -> {
+            if (ex != null)
+                cache.remove(value, created);
+        });
+
+        purgeExpired(now);
+        return resolve(value, created.future);
+    }
+
+    /**
+     * Removes every expired address from the {@link #cache}, if it hasn't
+     * already been done in the last time to live, so hosts which are never
+     * converted again don't stay in memory.
+     *
+     * @param now The current {@link System#nanoTime()}.
+     */
+    private void purgeExpired(final long now) {
+        final long purgeAt = nextPurge.get();
+
+        if (now - purgeAt < 0 || !nextPurge.compareAndSet(purgeAt, now + ttlNanos))
+            return;
+
+        cache.values().removeIf((resolution) -> !resolution.isAlive(now));
+    }
+
+    /**
+     * @return The number of resolved or in-flight addresses cached, including any which have expired but not been removed yet.
+     */
+    int cacheSize() {
+        return (cache == null) ? 0 : cache.size();
+    }
+
+    /**
+     * Resolves the host on the {@link #executor}.
+     *
+     * @param host The host name to resolve.
+     * @param future The future to complete with the result.
+     * @return The future.
+     */
+    private CompletableFuture<InetAddress> resolve(final String host, final CompletableFuture<InetAddress> future) {
         try {
-            return InetAddress.getByName(value);
-        } catch (UnknownHostException ex) {
-            throw new IllegalArgumentException("Unable to get IP address of the named host.", ex);
+            executor.execute(() -> {
+                try {
+                    future.complete(resolver.resolve(host));
+                } catch (UnknownHostException ex) {
+                    future.completeExceptionally(new IllegalArgumentException("Unable to get IP address of the named host.", ex));
+                } catch (RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+
+        return future;
+    }
+
+    /** The shared pool host names are resolved on by default, created the first time it's used. */
+    private static final class DefaultExecutor {
+
+        /** The maximum number of host names resolved at once. */
+        private static final int THREADS = 4;
+
+        private static final Executor INSTANCE = create();
+
+        private DefaultExecutor() {
+            // Do nothing.
+        }
+
+        private static Executor create() {
+            final AtomicInteger count = new AtomicInteger();
+            final ClassLoader loader = InetAddressConverter.class.getClassLoader();
+
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), (runnable) -> {
+                final Thread thread = new Thread(runnable, "InetAddressConverter-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setContextClassLoader(loader);
+                return thread;
+            });
+
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    /** A resolved or in-flight address, and when it expires. */
+    private static final class Resolution {
+
+        private final CompletableFuture<InetAddress> future;
+
+        /** The {@link System#nanoTime()} this expires at. */
+        private final long expiresAt;
+
+        private Resolution(final CompletableFuture<InetAddress> future, final long expiresAt) {
+            this.future = future;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isAlive(final long now) {
+            return now - expiresAt < 0;
         }
     }
 }
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+
+/**
+ * <p>
+ *     Parses IP address literals by hand so they can be converted without
+ *     consulting a host name resolver, or the generic parsing done by
+ *     {@link InetAddress#getByName(String)}.
+ * </p>
+ *
+ * This accepts values such as:
+ * <ul>
+ *     <li><code>192.168.0.1</code></li>
+ *     <li><code>2001:db8::1</code></li>
+ *     <li><code>::ffff:192.168.0.1</code></li>
+ *     <li><code>[2001:db8::1]</code></li>
+ *     <li><code>fe80::1%1</code> or <code>fe80::1%eth0</code></li>
+ * </ul>
+ *
+ * <p>
+ *     IPv4 addresses must be in dotted-quad notation, and octets with
+ *     leading zeros are rejected as they're ambiguous with octal.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ * @see <a href="https://tools.ietf.org/html/rfc4291#section-2.2">RFC 4291: Text Representation of Addresses</a>
+ * @see <a href="https://tools.ietf.org/html/rfc6874">RFC 6874: Representing IPv6 Zone Identifiers</a>
+ */
+final class InetLiterals {
+
+    private InetLiterals() {
+        // Do nothing.
+    }
+
+    /**
+     * @param value The value to parse.
+     * @return The address of the literal, or null if the value isn't shaped like an IP address literal.
+     * @throws IllegalArgumentException If the value is shaped like an IPv6 literal but isn't valid.
+     */
+    static InetAddress parse(final String value) {
+        final int length = value.length();
+        final byte[] ipv4 = parseIpv4(value, 0, length);
+
+        if (ipv4 != null)
+            return toAddress(ipv4);
+
+        int from = 0;
+        int to = length;
+
+        if (length != 0 && value.charAt(0) == '[') {
+            if (value.charAt(length - 1) != ']')
+                throw new IllegalArgumentException("Value starts with '[' but doesn't end with ']'.");
+
+            from = 1;
+            to = length - 1;
+        } else if (value.indexOf(':') == -1) {
+            return null;
+        }
+
+        int zone = value.indexOf('%', from);
+
+        if (zone >= to)
+            zone = -1;
+
+        final byte[] ipv6 = parseIpv6(value, from, (zone == -1) ? to : zone);
+
+        if (ipv6 == null)
+            throw new IllegalArgumentException("Value isn't a valid IPv6 address.");
+
+        if (zone == -1)
+            return toAddress(ipv6);
+
+        if (zone + 1 == to)
+            throw new IllegalArgumentException("Zone ID after '%' can't be empty.");
+
+        return toScopedAddress(ipv6, value.substring(zone + 1, to));
+    }
+
+    /**
+     * @param value The value to parse.
+     * @param from The index the address starts at, inclusive.
+     * @param to The index the address ends at, exclusive.
+     * @return The 4 bytes of a dotted-quad IPv4 address, or null if the region isn't one.
+     */
+    static byte[] parseIpv4(final String value, final int from, final int to) {
+        final int length = to - from;
+
+        if (length < 7 || length > 15)
+            return null;
+
+        final byte[] address = new byte[4];
+        int octet = 0;
+        int pos = from;
+
+        while (true) {
+            final int start = pos;
+            int number = 0;
+
+            while (pos < to && pos - start < 3 && Numbers.isDigit(value.charAt(pos)))
+                number = number * 10 + (value.charAt(pos++) - '0');
+
+            final int digits = pos - start;
+
+            if (digits == 0 || number > 255 || (digits > 1 && value.charAt(start) == '0'))
+                return null;
+
+            address[octet++] = (byte)number;
+
+            if (octet == 4)
+                return (pos == to) ? address : null;
+
+            if (pos == to || value.charAt(pos++) != '.')
+                return null;
+        }
+    }
+
+    /**
+     * Parses the groups of an IPv6 address, including a <code>::</code> in place
+     * of one or more groups of zeros, and an IPv4 address in place of the last two groups.
+     *
+     * @param value The value to parse.
+     * @param from The index the address starts at, inclusive.
+     * @param to The index the address ends at, exclusive, before any zone ID.
+     * @return The 16 bytes of the IPv6 address, or null if the region isn't one.
+     */
+    static byte[] parseIpv6(final String value, final int from, final int to) {
+        if (to - from < 2)
+            return null;
+
+        final byte[] address = new byte[16];
+        int index = 0;
+        int gap = -1;
+        int pos = from;
+
+        if (value.charAt(pos) == ':') {
+            if (value.charAt(pos + 1) != ':')
+                return null;
+
+            gap = 0;
+            pos += 2;
+        }
+
+        while (pos < to) {
+            if (index == 16)
+                return null;
+
+            final int start = pos;
+            int group = 0;
+
+            while (pos < to && pos - start < 4) {
+                final int digit = Numbers.hexDigit(value.charAt(pos));
+
+                if (digit == -1)
+                    break;
+
+                group = (group << 4) | digit;
+                pos++;
+            }
+
+            if (pos == start)
+                return null;
+
+            if (pos < to && value.charAt(pos) == '.') {
+                if (index > 12)
+                    return null;
+
+                final byte[] ipv4 = parseIpv4(value, start, to);
+
+                if (ipv4 == null)
+                    return null;
+
+                System.arraycopy(ipv4, 0, address, index, 4);
+                index += 4;
+                break;
+            }
+
+            address[index++] = (byte)(group >>> 8);
+            address[index++] = (byte)group;
+
+            if (pos == to)
+                break;
+
+            if (value.charAt(pos++) != ':' || pos == to)
+                return null;
+
+            if (value.charAt(pos) == ':') {
+                if (gap != -1)
+                    return null;
+
+                gap = index;
+                pos++;
+            }
+        }
+
+        if (gap == -1)
+            return (index == 16) ? address : null;
+
+        if (index == 16)
+            return null;
+
+        final int moved = index - gap;
+        System.arraycopy(address, gap, address, 16 - moved, moved);
+        Arrays.fill(address, gap, 16 - moved, (byte)0);
+        return address;
+    }
+
+    private static InetAddress toAddress(final byte[] address) {
+        try {
+            return InetAddress.getByAddress(address);
+        } catch (UnknownHostException ex) {
+            throw new IllegalStateException("Address was parsed with an invalid length.", ex);
+        }
+    }
+
+    /**
+     * @param address The 16 bytes of the IPv6 address.
+     * @param zone The numeric scope ID, or the name of a network interface.
+     * @return The scoped IPv6 address.
+     * @throws IllegalArgumentException If the zone isn't a scope ID or the name of a network interface on this host.
+     */
+    private static InetAddress toScopedAddress(final byte[] address, final String zone) {
+        try {
+            if (Numbers.isDigit(zone.charAt(0)) && zone.length() <= 9 && Numbers.isInteger(zone))
+                return Inet6Address.getByAddress(null, address, Integer.parseInt(zone));
+
+            final NetworkInterface networkInterface = NetworkInterface.getByName(zone);
+
+            if (networkInterface == null)
+                throw new IllegalArgumentException("Zone ID " + zone + " isn't a scope ID or network interface.");
+
+            return Inet6Address.getByAddress(null, address, networkInterface);
+        } catch (UnknownHostException | SocketException ex) {
+            throw new IllegalArgumentException("Zone ID " + zone + " isn't valid for this address.", ex);
+        }
+    }
+}
@@ -28,6 +28,16 @@ import java.util.Objects;
  * format. If this isn't possible we'll read the value as a literal {@link Long} so
  * it can be interpretted as unix time.
  *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     Values in the canonical <code>yyyy-MM-ddTHH:mm:ss[.fffffffff]Z</code>
+ *     layout are parsed by hand, computing the epoch seconds and nanoseconds
+ *     arithmetically rather than going through a {@link DateTimeFormatter}.
+ *     Anything else, including values in that layout with fields out of
+ *     range, falls back to {@link Instant#parse(CharSequence)}.
+ * </p>
+ *
  * @author seth@elypia.org (Seth Falco)
  * @since 1.0.0
  * @see <a href="https://en.wikipedia.org/wiki/Unix_time">Unix Time on Wikipedia</a>
@@ -35,6 +45,12 @@ import java.util.Objects;
 public class InstantConverter implements ConfigResolver.Converter<Instant> {
 
     /**
+     * <p>
+     *     Values that are only digits, with an optional sign, are read as
+     *     milliseconds directly, so an exception is never thrown and caught
+     *     internally for valid values.
+     * </p>
+     *
      * @param value The value of the configuration property.
      * @return An {@link Instant} which represents the configuration property value.
      * @throws NullPointerException If the value is null.
@@ -44,15 +60,109 @@ public class InstantConverter implements ConfigResolver.Converter<Instant> {
     public Instant convert(String value) {
         Objects.requireNonNull(value, "Value can't be null.");
 
-        try {
-            return Instant.parse(value);
-        } catch (DateTimeParseException ex) {
+        if (Numbers.isInteger(value)) {
             try {
                 final long epoch = Long.parseLong(value);
                 return Instant.ofEpochMilli(epoch);
-            } catch (RuntimeException rEx) {
-                throw new IllegalArgumentException("Value isn't a valid DateTimeFormatter.ISO_INSTANT String, and isn't a valid number of milliseconds. Unable to convert value to Instant.", rEx);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Value is too large to be a valid number of milliseconds. Unable to convert value to Instant.", ex);
             }
         }
+
+        final Instant instant = parseCanonical(value);
+
+        if (instant != null)
+            return instant;
+
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Value isn't a valid DateTimeFormatter.ISO_INSTANT String, and isn't a valid number of milliseconds. Unable to convert value to Instant.", ex);
+        }
+    }
+
+    /**
+     * @param value The value of the configuration property.
+     * @return The {@link Instant} the value represents, or null if the value isn't
+     * in the canonical layout or any field is out of range.
+     */
+    static Instant parseCanonical(final String value) {
+        final int length = value.length();
+
+        if (length < 20 || length > 30 || value.charAt(length - 1) != 'Z')
+            return null;
+
+        if (value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != 'T' || value.charAt(13) != ':' || value.charAt(16) != ':')
+            return null;
+
+        final int year = digits(value, 0, 4);
+        final int month = digits(value, 5, 7);
+        final int day = digits(value, 8, 10);
+        final int hour = digits(value, 11, 13);
+        final int minute = digits(value, 14, 16);
+        final int second = digits(value, 17, 19);
+
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month))
+            return null;
+
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59)
+            return null;
+
+        int nanos = 0;
+
+        if (length > 20) {
+            if (value.charAt(19) != '.' || length == 21)
+                return null;
+
+            nanos = digits(value, 20, length - 1);
+
+            if (nanos < 0)
+                return null;
+
+            for (int i = length - 1; i < 29; i++)
+                nanos *= 10;
+        }
+
+        final long seconds = daysFromCivil(year, month, day) * 86400 + hour * 3600 + minute * 60 + second;
+        return Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    /**
+     * @return The value of the ASCII digits between the indexes, or -1 if any aren't digits.
+     */
+    private static int digits(final String value, final int from, final int to) {
+        int result = 0;
+
+        for (int i = from; i < to; i++) {
+            final char c = value.charAt(i);
+
+            if (!Numbers.isDigit(c))
+                return -1;
+
+            result = result * 10 + (c - '0');
+        }
+
+        return result;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        if (month == 2)
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+
+        return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+    }
+
+    /**
+     * The number of days since 1970-01-01 in the proleptic Gregorian calendar.
+     *
+     * @see <a href="https://howardhinnant.github.io/date_algorithms.html#days_from_civil">days_from_civil by Howard Hinnant</a>
+     */
+    private static long daysFromCivil(final int year, final int month, final int day) {
+        final int y = (month <= 2) ? year - 1 : year;
+        final int era = Math.floorDiv(y, 400);
+        final int yearOfEra = y - era * 400;
+        final int dayOfYear = (153 * (month + ((month > 2) ? -3 : 9)) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
     }
 }
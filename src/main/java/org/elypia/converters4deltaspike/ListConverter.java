@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ *     Converts a comma separated list of elements into an unmodifiable
+ *     {@link List}, converting each element with another converter, for example:
+ * </p>
+ *
+ * <pre><code>
+ * public class DurationListConverter extends ListConverter&lt;Duration&gt; {
+ *
+ *     public DurationListConverter() {
+ *         super(new DurationConverter());
+ *     }
+ * }
+ * </code></pre>
+ *
+ * This accepts values such as:
+ * <ul>
+ *     <li><code>1s, 5m, 1h</code></li>
+ *     <li><code>#FFF,#000</code></li>
+ *     <li><code>(1\, 2), (3\, 4)</code></li>
+ * </ul>
+ *
+ * <p>
+ *     Whitespace around each element is trimmed, and a delimiter or backslash
+ *     in an element can be escaped with a backslash. Any other backslash is kept
+ *     as it is, so <code>\d+, \w+</code> is the elements <code>\d+</code> and
+ *     <code>\w+</code>. An empty value converts to an empty {@link List}, but
+ *     empty elements are rejected.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     Lists with at least as many elements as the parallel threshold
+ *     have their elements converted in parallel on the common
+ *     {@link java.util.concurrent.ForkJoinPool}.
+ * </p>
+ *
+ * @param <T> The type of each element.
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class ListConverter<T> implements ConfigResolver.Converter<List<T>> {
+
+    /** The converter to convert each element with. */
+    private final ConfigResolver.Converter<T> converter;
+
+    /** The character which separates elements. */
+    private final char delimiter;
+
+    /** The number of elements at which they're converted in parallel. */
+    private final int parallelThreshold;
+
+    /**
+     * @param converter The converter to convert each element with.
+     */
+    public ListConverter(final ConfigResolver.Converter<T> converter) {
+        this(converter, ',', Elements.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param converter The converter to convert each element with.
+     * @param delimiter The character which separates elements.
+     * @param parallelThreshold The number of elements at which they're converted in parallel,
+     * or {@link Integer#MAX_VALUE} to always convert them on the calling thread.
+     * @throws IllegalArgumentException If the delimiter is a backslash or whitespace,
+     * or the threshold isn't greater than 0.
+     */
+    public ListConverter(final ConfigResolver.Converter<T> converter, final char delimiter, final int parallelThreshold) {
+        this.converter = Objects.requireNonNull(converter);
+        this.delimiter = Elements.requireDelimiter(delimiter);
+        this.parallelThreshold = Elements.requireThreshold(parallelThreshold);
+    }
+
+    /**
+     * @param value The value of the configuration property.
+     * @return An unmodifiable {@link List} of the converted elements, in the order they were listed.
+     * @throws NullPointerException If the value is null.
+     * @throws IllegalArgumentException If any element is empty or can't be converted.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> convert(String value) {
+        Objects.requireNonNull(value, "Value can't be null.");
+
+        final List<String> elements = Elements.split(value, delimiter);
+
+        if (elements.isEmpty())
+            return List.of();
+
+        final T[] results = (T[])new Object[elements.size()];
+        Elements.convert(converter, elements, results, parallelThreshold);
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ *     Converts a semicolon separated list of <code>key=value</code> pairs
+ *     into an unmodifiable {@link Map}, converting the keys and values with
+ *     other converters, for example:
+ * </p>
+ *
+ * <pre><code>
+ * public class TimeoutsConverter extends MapConverter&lt;Enum, Duration&gt; {
+ *
+ *     public TimeoutsConverter() {
+ *         super(new EnumConverter(Operation.class), new DurationConverter());
+ *     }
+ * }
+ * </code></pre>
+ *
+ * This accepts values such as:
+ * <ul>
+ *     <li><code>READ=5s; WRITE=30s</code></li>
+ *     <li><code>en=#FFF;fr=#000</code></li>
+ *     <li><code>a\=b=1</code></li>
+ * </ul>
+ *
+ * <p>
+ *     Whitespace around each key and value is trimmed, and a separator,
+ *     delimiter, or backslash can be escaped with a backslash. Any other
+ *     backslash is kept as it is, such as in <code>digits=\d+</code>. An empty value
+ *     converts to an empty {@link Map}, but empty keys or values are rejected,
+ *     as are keys which are listed more than once.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     The value is scanned once from left to right, converting each key and
+ *     value as it's read. If every key is a constant of the same {@link Enum}
+ *     type, they're stored in an {@link EnumMap}, otherwise the pairs are
+ *     stored with {@link Map#ofEntries(Map.Entry[])}.
+ * </p>
+ *
+ * @param <K> The type of each key.
+ * @param <V> The type of each value.
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class MapConverter<K, V> implements ConfigResolver.Converter<Map<K, V>> {
+
+    /** The converter to convert each key with. */
+    private final ConfigResolver.Converter<K> keyConverter;
+
+    /** The converter to convert each value with. */
+    private final ConfigResolver.Converter<V> valueConverter;
+
+    /** The character which separates pairs. */
+    private final char delimiter;
+
+    /** The character which separates a key from its value. */
+    private final char separator;
+
+    /**
+     * @param keyConverter The converter to convert each key with.
+     * @param valueConverter The converter to convert each value with.
+     */
+    public MapConverter(final ConfigResolver.Converter<K> keyConverter, final ConfigResolver.Converter<V> valueConverter) {
+        this(keyConverter, valueConverter, ';', '=');
+    }
+
+    /**
+     * @param keyConverter The converter to convert each key with.
+     * @param valueConverter The converter to convert each value with.
+     * @param delimiter The character which separates pairs.
+     * @param separator The character which separates a key from its value.
+     * @throws IllegalArgumentException If either character is a backslash or whitespace,
+     * or they're the same character.
+     */
+    public MapConverter(final ConfigResolver.Converter<K> keyConverter, final ConfigResolver.Converter<V> valueConverter, final char delimiter, final char separator) {
+        if (delimiter == separator)
+            throw new IllegalArgumentException("Delimiter and separator can't be the same character.");
+
+        this.keyConverter = Objects.requireNonNull(keyConverter);
+        this.valueConverter = Objects.requireNonNull(valueConverter);
+        this.delimiter = Elements.requireDelimiter(delimiter);
+        this.separator = Elements.requireDelimiter(separator);
+    }
+
+    /**
+     * @param value The value of the configuration property.
+     * @return An unmodifiable {@link Map} of the converted keys and values.
+     * @throws NullPointerException If the value is null.
+     * @throws IllegalArgumentException If any pair isn't in the format <code>key=value</code>,
+     * a key or value can't be converted, or a key is listed more than once.
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Map<K, V> convert(String value) {
+        Objects.requireNonNull(value, "Value can't be null.");
+
+        final Elements.Scanner scanner = new Elements.Scanner(value, delimiter, separator);
+
+        if (scanner.isAtEnd())
+            return Map.of();
+
+        Class enumType = null;
+        EnumMap enumMap = null;
+        List<Map.Entry<K, V>> entries = null;
+        int index = 0;
+
+        do {
+            final String rawKey = scanner.next(separator, delimiter);
+
+            if (!scanner.skip(separator))
+                throw new IllegalArgumentException("Pair " + index + " must be in the format key" + separator + "value.");
+
+            final String rawValue = scanner.next(delimiter, delimiter);
+
+            if (rawKey.isEmpty() || rawValue.isEmpty())
+                throw new IllegalArgumentException("Pair " + index + " can't have an empty key or value.");
+
+            final K key = Objects.requireNonNull(keyConverter.convert(rawKey), "Keys can't convert to null.");
+            final V converted = Objects.requireNonNull(valueConverter.convert(rawValue), "Values can't convert to null.");
+
+            if (entries == null && key instanceof Enum && (enumType == null || ((Enum<?>)key).getDeclaringClass() == enumType)) {
+                if (enumMap == null) {
+                    enumType = ((Enum<?>)key).getDeclaringClass();
+                    enumMap = new EnumMap(enumType);
+                }
+
+                if (enumMap.put(key, converted) != null)
+                    throw new IllegalArgumentException("Key " + rawKey + " is listed more than once.");
+            } else {
+                if (entries == null) {
+                    entries = new ArrayList<>();
+
+                    if (enumMap != null) {
+                        for (Map.Entry<K, V> entry : ((Map<K, V>)enumMap).entrySet())
+                            entries.add(Map.entry(entry.getKey(), entry.getValue()));
+                    }
+                }
+
+                entries.add(Map.entry(key, converted));
+            }
+
+            index++;
+        } while (scanner.skip(delimiter));
+
+        if (entries == null)
+            return Collections.unmodifiableMap(enumMap);
+
+        try {
+            return Map.ofEntries(entries.toArray(new Map.Entry[0]));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("A key is listed more than once.", ex);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import java.awt.Color;
+
+/**
+ * <p>
+ *     The named colors defined by CSS Color Module Level 4, indexed by
+ *     a case-insensitive perfect hash so looking up a name never allocates.
+ * </p>
+ *
+ * <p>
+ *     For backwards compatibility, names which were already supported
+ *     through the constants in {@link Color} resolve to those constants,
+ *     even where the CSS definition differs, such as <code>lightgray</code>,
+ *     <code>darkgray</code>, <code>pink</code>, <code>orange</code>, and <code>green</code>.
+ *     The <code>grey</code> spellings always resolve to the same color as
+ *     the <code>gray</code> spellings.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ * @see <a href="https://www.w3.org/TR/css-color-4/#named-colors">Named Colors in CSS Color Module Level 4</a>
+ */
+final class NamedColors {
+
+    /**
+     * Seed of the hash function, this is the first seed where no two
+     * names map to the same slot, which is verified when the table is built.
+     */
+    private static final int SEED = 10561;
+
+    /** Used to map a hash onto a slot, the table has 1024 slots. */
+    private static final int SLOT_MASK = 1023;
+
+    /** The length of the shortest name, such as <code>red</code>. */
+    private static final int MIN_LENGTH = 3;
+
+    /** The length of the longest name, <code>lightgoldenrodyellow</code>. */
+    private static final int MAX_LENGTH = 20;
+
+    /** The name in each slot, or null if the slot is empty. */
+    private static final String[] NAMES = new String[SLOT_MASK + 1];
+
+    /** The color in each slot, or null if the slot is empty. */
+    private static final Color[] COLORS = new Color[SLOT_MASK + 1];
+
+    static {
+        define("aliceblue", 0xF0F8FF);
+        define("antiquewhite", 0xFAEBD7);
+        define("aqua", 0x00FFFF);
+        define("aquamarine", 0x7FFFD4);
+        define("azure", 0xF0FFFF);
+        define("beige", 0xF5F5DC);
+        define("bisque", 0xFFE4C4);
+        define("black", Color.BLACK);
+        define("blanchedalmond", 0xFFEBCD);
+        define("blue", Color.BLUE);
+        define("blueviolet", 0x8A2BE2);
+        define("brown", 0xA52A2A);
+        define("burlywood", 0xDEB887);
+        define("cadetblue", 0x5F9EA0);
+        define("chartreuse", 0x7FFF00);
+        define("chocolate", 0xD2691E);
+        define("coral", 0xFF7F50);
+        define("cornflowerblue", 0x6495ED);
+        define("cornsilk", 0xFFF8DC);
+        define("crimson", 0xDC143C);
+        define("cyan", Color.CYAN);
+        define("darkblue", 0x00008B);
+        define("darkcyan", 0x008B8B);
+        define("darkgoldenrod", 0xB8860B);
+        define("darkgray", Color.DARK_GRAY);
+        define("darkgreen", 0x006400);
+        define("darkgrey", Color.DARK_GRAY);
+        define("darkkhaki", 0xBDB76B);
+        define("darkmagenta", 0x8B008B);
+        define("darkolivegreen", 0x556B2F);
+        define("darkorange", 0xFF8C00);
+        define("darkorchid", 0x9932CC);
+        define("darkred", 0x8B0000);
+        define("darksalmon", 0xE9967A);
+        define("darkseagreen", 0x8FBC8F);
+        define("darkslateblue", 0x483D8B);
+        define("darkslategray", 0x2F4F4F);
+        define("darkslategrey", 0x2F4F4F);
+        define("darkturquoise", 0x00CED1);
+        define("darkviolet", 0x9400D3);
+        define("deeppink", 0xFF1493);
+        define("deepskyblue", 0x00BFFF);
+        define("dimgray", 0x696969);
+        define("dimgrey", 0x696969);
+        define("dodgerblue", 0x1E90FF);
+        define("firebrick", 0xB22222);
+        define("floralwhite", 0xFFFAF0);
+        define("forestgreen", 0x228B22);
+        define("fuchsia", 0xFF00FF);
+        define("gainsboro", 0xDCDCDC);
+        define("ghostwhite", 0xF8F8FF);
+        define("gold", 0xFFD700);
+        define("goldenrod", 0xDAA520);
+        define("gray", Color.GRAY);
+        define("green", Color.GREEN);
+        define("greenyellow", 0xADFF2F);
+        define("grey", Color.GRAY);
+        define("honeydew", 0xF0FFF0);
+        define("hotpink", 0xFF69B4);
+        define("indianred", 0xCD5C5C);
+        define("indigo", 0x4B0082);
+        define("ivory", 0xFFFFF0);
+        define("khaki", 0xF0E68C);
+        define("lavender", 0xE6E6FA);
+        define("lavenderblush", 0xFFF0F5);
+        define("lawngreen", 0x7CFC00);
+        define("lemonchiffon", 0xFFFACD);
+        define("lightblue", 0xADD8E6);
+        define("lightcoral", 0xF08080);
+        define("lightcyan", 0xE0FFFF);
+        define("lightgoldenrodyellow", 0xFAFAD2);
+        define("lightgray", Color.LIGHT_GRAY);
+        define("lightgreen", 0x90EE90);
+        define("lightgrey", Color.LIGHT_GRAY);
+        define("lightpink", 0xFFB6C1);
+        define("lightsalmon", 0xFFA07A);
+        define("lightseagreen", 0x20B2AA);
+        define("lightskyblue", 0x87CEFA);
+        define("lightslategray", 0x778899);
+        define("lightslategrey", 0x778899);
+        define("lightsteelblue", 0xB0C4DE);
+        define("lightyellow", 0xFFFFE0);
+        define("lime", 0x00FF00);
+        define("limegreen", 0x32CD32);
+        define("linen", 0xFAF0E6);
+        define("magenta", Color.MAGENTA);
+        define("maroon", 0x800000);
+        define("mediumaquamarine", 0x66CDAA);
+        define("mediumblue", 0x0000CD);
+        define("mediumorchid", 0xBA55D3);
+        define("mediumpurple", 0x9370DB);
+        define("mediumseagreen", 0x3CB371);
+        define("mediumslateblue", 0x7B68EE);
+        define("mediumspringgreen", 0x00FA9A);
+        define("mediumturquoise", 0x48D1CC);
+        define("mediumvioletred", 0xC71585);
+        define("midnightblue", 0x191970);
+        define("mintcream", 0xF5FFFA);
+        define("mistyrose", 0xFFE4E1);
+        define("moccasin", 0xFFE4B5);
+        define("navajowhite", 0xFFDEAD);
+        define("navy", 0x000080);
+        define("oldlace", 0xFDF5E6);
+        define("olive", 0x808000);
+        define("olivedrab", 0x6B8E23);
+        define("orange", Color.ORANGE);
+        define("orangered", 0xFF4500);
+        define("orchid", 0xDA70D6);
+        define("palegoldenrod", 0xEEE8AA);
+        define("palegreen", 0x98FB98);
+        define("paleturquoise", 0xAFEEEE);
+        define("palevioletred", 0xDB7093);
+        define("papayawhip", 0xFFEFD5);
+        define("peachpuff", 0xFFDAB9);
+        define("peru", 0xCD853F);
+        define("pink", Color.PINK);
+        define("plum", 0xDDA0DD);
+        define("powderblue", 0xB0E0E6);
+        define("purple", 0x800080);
+        define("rebeccapurple", 0x663399);
+        define("red", Color.RED);
+        define("rosybrown", 0xBC8F8F);
+        define("royalblue", 0x4169E1);
+        define("saddlebrown", 0x8B4513);
+        define("salmon", 0xFA8072);
+        define("sandybrown", 0xF4A460);
+        define("seagreen", 0x2E8B57);
+        define("seashell", 0xFFF5EE);
+        define("sienna", 0xA0522D);
+        define("silver", 0xC0C0C0);
+        define("skyblue", 0x87CEEB);
+        define("slateblue", 0x6A5ACD);
+        define("slategray", 0x708090);
+        define("slategrey", 0x708090);
+        define("snow", 0xFFFAFA);
+        define("springgreen", 0x00FF7F);
+        define("steelblue", 0x4682B4);
+        define("tan", 0xD2B48C);
+        define("teal", 0x008080);
+        define("thistle", 0xD8BFD8);
+        define("tomato", 0xFF6347);
+        define("turquoise", 0x40E0D0);
+        define("violet", 0xEE82EE);
+        define("wheat", 0xF5DEB3);
+        define("white", Color.WHITE);
+        define("whitesmoke", 0xF5F5F5);
+        define("yellow", Color.YELLOW);
+        define("yellowgreen", 0x9ACD32);
+    }
+
+    private NamedColors() {
+        // Do nothing.
+    }
+
+    /**
+     * @param value The name of the color, in any case.
+     * @return The {@link Color} with this name, or null if there is no color by this name.
+     */
+    static Color get(final String value) {
+        final int slot = slot(value);
+
+        if (slot == -1)
+            return null;
+
+        final String name = NAMES[slot];
+        return (name != null && name.equalsIgnoreCase(value)) ? COLORS[slot] : null;
+    }
+
+    /**
+     * Hashes the value with FNV-1a, folding ASCII letters to lower case as
+     * they're read so the case of the value doesn't matter.
+     *
+     * @param value The name of the color, in any case.
+     * @return The slot this name maps to, or -1 if the value can't be a color name.
+     */
+    private static int slot(final String value) {
+        final int length = value.length();
+
+        if (length < MIN_LENGTH || length > MAX_LENGTH)
+            return -1;
+
+        int hash = SEED;
+
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z'))
+                return -1;
+
+            hash = (hash ^ (c | 0x20)) * 16777619;
+        }
+
+        return (hash ^ (hash >>> 16)) & SLOT_MASK;
+    }
+
+    private static void define(final String name, final int rgb) {
+        define(name, new Color(rgb));
+    }
+
+    private static void define(final String name, final Color color) {
+        final int slot = slot(name);
+
+        if (NAMES[slot] != null)
+            throw new IllegalStateException("Color names " + NAMES[slot] + " and " + name + " map to the same slot.");
+
+        NAMES[slot] = name;
+        COLORS[slot] = color;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+/**
+ * Utilities to check the shape of numeric values before parsing them,
+ * so converters can pick the right parser up front instead of trying
+ * each one and catching the exception.
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+final class Numbers {
+
+    private Numbers() {
+        // Do nothing.
+    }
+
+    /**
+     * @param value The value to check.
+     * @return If the value is an optional <code>+</code> or <code>-</code> sign followed
+     * by one or more ASCII digits, this doesn't check if the number fits in any type.
+     */
+    static boolean isInteger(final String value) {
+        final int length = value.length();
+        int index = 0;
+
+        if (length != 0 && (value.charAt(0) == '-' || value.charAt(0) == '+'))
+            index++;
+
+        if (index == length)
+            return false;
+
+        for (; index < length; index++) {
+            if (!isDigit(value.charAt(index)))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param c The character to check.
+     * @return If the character is an ASCII digit, unlike {@link Character#isDigit(char)}
+     * which accepts digits from any script.
+     */
+    static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @param c The character to check.
+     * @return The value of the ASCII hexadecimal digit in either case, or -1
+     * if it's not one, unlike {@link Character#digit(char, int)} which accepts
+     * digits from any script.
+     */
+    static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9')
+            return c - '0';
+        if (c >= 'a' && c <= 'f')
+            return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F')
+            return c - 'A' + 10;
+
+        return -1;
+    }
+}
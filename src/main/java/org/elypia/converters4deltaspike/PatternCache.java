@@ -0,0 +1,237 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * <p>
+ *     A bounded cache of compiled {@link Pattern}s keyed by the regular
+ *     expression and flags, which can be shared between {@link PatternConverter}s
+ *     so the same regular expression is only compiled once.
+ * </p>
+ *
+ * <p>
+ *     Lookups don't lock, so many threads can read from the cache at once,
+ *     and the number of hits, misses, and evictions are counted so the
+ *     capacity can be tuned. While many threads are adding patterns at
+ *     once, the cache may briefly hold more than its capacity.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     Entries are evicted with the CLOCK algorithm, an approximation of
+ *     least recently used. A hit only marks the entry as referenced, and when
+ *     the cache is full, entries are taken from the oldest first, where an
+ *     entry that was referenced has the mark cleared and gets a second chance
+ *     instead of being evicted.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ * @see PatternConverter#PatternConverter(int, PatternCache)
+ */
+public final class PatternCache {
+
+    /** The maximum number of {@link Pattern}s kept. */
+    private final int capacity;
+
+    /** The compiled patterns by regular expression and flags. */
+    private final Map<Key, Entry> entries;
+
+    /** The entries in the order they were added or given a second chance, the hand of the clock. */
+    private final Queue<Entry> clock;
+
+    /** Held while evicting, so only one thread sweeps the clock at a time. */
+    private final ReentrantLock evictionLock;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * @param capacity The maximum number of {@link Pattern}s to keep.
+     * @throws IllegalArgumentException If the capacity isn't greater than 0.
+     */
+    public PatternCache(final int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Cache capacity must be greater than 0.");
+
+        this.capacity = capacity;
+        this.entries = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.evictionLock = new ReentrantLock();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * @param regex The regular expression to compile.
+     * @param flags The match flags, such as {@link Pattern#CASE_INSENSITIVE}.
+     * @return The cached {@link Pattern}, or a newly compiled one if it wasn't cached.
+     * @throws NullPointerException If the regular expression is null.
+     * @throws PatternSyntaxException If the regular expression is malformed.
+     * @throws IllegalArgumentException If the flags contain undefined bit values.
+     */
+    public Pattern compile(final String regex, final int flags) {
+        final Key key = new Key(regex, flags);
+        final Entry cached = entries.get(key);
+
+        if (cached != null) {
+            hits.increment();
+
+            if (!cached.referenced)
+                cached.referenced = true;
+
+            return cached.pattern;
+        }
+
+        misses.increment();
+
+        final Entry created = new Entry(key, Pattern.compile(regex, flags));
+        final Entry raced = entries.putIfAbsent(key, created);
+
+        if (raced != null)
+            return raced.pattern;
+
+        clock.add(created);
+
+        if (entries.size() > capacity)
+            evict();
+
+        return created.pattern;
+    }
+
+    /**
+     * Sweeps the clock until the cache is back within its capacity.
+     * If another thread is already evicting, this leaves it to that thread,
+     * which checks the size again after it's done.
+     */
+    private void evict() {
+        while (entries.size() > capacity && evictionLock.tryLock()) {
+            try {
+                while (entries.size() > capacity) {
+                    final Entry entry = clock.poll();
+
+                    // The newest entries aren't queued yet, the threads adding them evict after queuing.
+                    if (entry == null)
+                        return;
+
+                    if (entry.referenced) {
+                        entry.referenced = false;
+                        clock.add(entry);
+                    } else if (entries.remove(entry.key, entry)) {
+                        evictions.increment();
+                    }
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return The maximum number of {@link Pattern}s kept.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of {@link Pattern}s currently cached.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The number of times a cached {@link Pattern} was returned.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of times a {@link Pattern} had to be compiled.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of {@link Pattern}s removed to stay within the capacity.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "PatternCache[size=" + size() + ", capacity=" + capacity + ", hits=" + hitCount() + ", misses=" + missCount() + ", evictions=" + evictionCount() + "]";
+    }
+
+    /** A regular expression and the flags it's compiled with. */
+    private static final class Key {
+
+        private final String regex;
+        private final int flags;
+
+        private Key(final String regex, final int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object)
+                return true;
+
+            if (!(object instanceof Key))
+                return false;
+
+            final Key other = (Key)object;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return regex.hashCode() * 31 + flags;
+        }
+    }
+
+    /** A cached {@link Pattern}, and if it was used since the clock last passed it. */
+    private static final class Entry {
+
+        private final Key key;
+        private final Pattern pattern;
+        private volatile boolean referenced;
+
+        private Entry(final Key key, final Pattern pattern) {
+            this.key = key;
+            this.pattern = pattern;
+        }
+    }
+}
@@ -23,22 +23,213 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 /**
- * Converts a regular expression into a Java {@link Pattern} object.
+ * <p>
+ *     Converts a regular expression into a Java {@link Pattern} object.
+ * </p>
+ *
+ * <p>
+ *     Compiling a regular expression is relatively expensive, so a {@link PatternCache}
+ *     can be provided to reuse {@link Pattern}s when the same regular expression
+ *     is converted repeatedly, such as each time the configuration is reloaded.
+ * </p>
+ *
+ * <p>
+ *     With {@link Option#DELIMITED}, regular expressions can also be written between
+ *     slashes followed by flags, such as <code>/ow.+o/i</code>, and with
+ *     {@link Option#REJECT_NESTED_QUANTIFIERS}, regular expressions which may
+ *     backtrack catastrophically are rejected before they're compiled.
+ * </p>
  *
  * @author seth@elypia.org (Seth Falco)
  * @since 1.0.0
  */
 public class PatternConverter implements ConfigResolver.Converter<Pattern> {
 
+    /**
+     * Optional behavior of the {@link PatternConverter}.
+     *
+     * @since 1.1.0
+     */
+    public enum Option {
+
+        /**
+         * <p>
+         *     Values starting with <code>/</code> are read as a regular expression
+         *     between slashes, followed by flags in the same letters as embedded
+         *     flags, such as <code>/expr/imsx</code>.
+         * </p>
+         *
+         * <ul>
+         *     <li><code>i</code> {@link Pattern#CASE_INSENSITIVE}</li>
+         *     <li><code>d</code> {@link Pattern#UNIX_LINES}</li>
+         *     <li><code>m</code> {@link Pattern#MULTILINE}</li>
+         *     <li><code>s</code> {@link Pattern#DOTALL}</li>
+         *     <li><code>u</code> {@link Pattern#UNICODE_CASE}</li>
+         *     <li><code>x</code> {@link Pattern#COMMENTS}</li>
+         *     <li><code>U</code> {@link Pattern#UNICODE_CHARACTER_CLASS}</li>
+         * </ul>
+         *
+         * <p>
+         *     When enabled, a regular expression which should start with <code>/</code>
+         *     must be delimited, for example <code>//api/.*&#47;</code>.
+         * </p>
+         */
+        DELIMITED,
+
+        /**
+         * <p>
+         *     Rejects regular expressions with an unbounded quantifier applied to a group
+         *     which itself contains an unbounded quantifier, such as <code>(a+)+</code>,
+         *     as they can take exponential time to fail to match.
+         * </p>
+         *
+         * <p>
+         *     This is checked without considering what the quantifiers match, so some
+         *     safe regular expressions such as <code>\w+(,\w+)*</code> are also rejected.
+         *     These can be written with a possessive quantifier instead, such as
+         *     <code>\w+(,\w++)*</code>.
+         * </p>
+         */
+        REJECT_NESTED_QUANTIFIERS
+    }
+
+    /** All of the flags defined by {@link Pattern}. */
+    private static final int ALL_FLAGS = Pattern.UNIX_LINES | Pattern.CASE_INSENSITIVE | Pattern.COMMENTS
+        | Pattern.MULTILINE | Pattern.LITERAL | Pattern.DOTALL | Pattern.UNICODE_CASE
+        | Pattern.CANON_EQ | Pattern.UNICODE_CHARACTER_CLASS;
+
+    /** The match flags to compile regular expressions with. */
+    private final int flags;
+
+    /** Compiled patterns to reuse, or null to compile a new {@link Pattern} each time. */
+    private final PatternCache cache;
+
+    /** If {@link Option#DELIMITED} is enabled. */
+    private final boolean delimited;
+
+    /** If {@link Option#REJECT_NESTED_QUANTIFIERS} is enabled. */
+    private final boolean rejectNestedQuantifiers;
+
+    /**
+     * Constructs the {@link PatternConverter} without flags or a cache.
+     */
+    public PatternConverter() {
+        this(0, null);
+    }
+
+    /**
+     * @param flags The match flags to compile regular expressions with, such as {@link Pattern#CASE_INSENSITIVE}.
+     * @throws IllegalArgumentException If the flags contain undefined bit values.
+     * @since 1.1.0
+     */
+    public PatternConverter(final int flags) {
+        this(flags, null);
+    }
+
+    /**
+     * @param cache The cache to reuse compiled {@link Pattern}s from.
+     * @since 1.1.0
+     */
+    public PatternConverter(final PatternCache cache) {
+        this(0, Objects.requireNonNull(cache));
+    }
+
+    /**
+     * @param flags The match flags to compile regular expressions with, such as {@link Pattern#CASE_INSENSITIVE}.
+     * @param cache The cache to reuse compiled {@link Pattern}s from, or null to compile a new {@link Pattern} each time.
+     * @throws IllegalArgumentException If the flags contain undefined bit values.
+     * @since 1.1.0
+     */
+    public PatternConverter(final int flags, final PatternCache cache) {
+        this(flags, cache, new Option[0]);
+    }
+
+    /**
+     * @param options The optional behavior to enable.
+     * @since 1.1.0
+     */
+    public PatternConverter(final Option... options) {
+        this(0, null, options);
+    }
+
+    /**
+     * @param flags The match flags to compile regular expressions with, such as {@link Pattern#CASE_INSENSITIVE}.
+     * @param cache The cache to reuse compiled {@link Pattern}s from, or null to compile a new {@link Pattern} each time.
+     * @param options The optional behavior to enable.
+     * @throws IllegalArgumentException If the flags contain undefined bit values.
+     * @since 1.1.0
+     */
+    public PatternConverter(final int flags, final PatternCache cache, final Option... options) {
+        if ((flags & ~ALL_FLAGS) != 0)
+            throw new IllegalArgumentException("Flags contain undefined bit values.");
+
+        boolean delimited = false;
+        boolean rejectNestedQuantifiers = false;
+
+        for (Option option : options) {
+            if (option == Option.DELIMITED)
+                delimited = true;
+            else if (option == Option.REJECT_NESTED_QUANTIFIERS)
+                rejectNestedQuantifiers = true;
+        }
+
+        this.flags = flags;
+        this.cache = cache;
+        this.delimited = delimited;
+        this.rejectNestedQuantifiers = rejectNestedQuantifiers;
+    }
+
     /**
      * @param value The value of the configuration property.
      * @return A {@link Pattern} which represents the compiled configuration property.
      * @throws NullPointerException If the value is null.
-     * @throws PatternSyntaxException If the regular expression {@link String} provided is malformed.
+     * @throws PatternSyntaxException If the regular expression {@link String} provided is malformed,
+     * or is rejected by one of the enabled {@link Option}s.
      */
     @Override
     public Pattern convert(String value) {
         Objects.requireNonNull(value, "Regular expression can't be null.");
-        return Pattern.compile(value);
+
+        String regex = value;
+        int flags = this.flags;
+
+        if (delimited && !value.isEmpty() && value.charAt(0) == '/') {
+            final int end = value.lastIndexOf('/');
+
+            if (end == 0)
+                throw new PatternSyntaxException("Delimited regular expression must end with '/' and optional flags", value, value.length());
+
+            for (int i = end + 1; i < value.length(); i++)
+                flags |= toFlag(value, i);
+
+            regex = value.substring(1, end);
+        }
+
+        if (rejectNestedQuantifiers)
+            QuantifierAnalyzer.check(regex, flags);
+
+        if (cache != null)
+            return cache.compile(regex, flags);
+
+        return Pattern.compile(regex, flags);
+    }
+
+    /**
+     * @param value The delimited regular expression.
+     * @param index The index of the flag after the closing delimiter.
+     * @return The {@link Pattern} flag the letter represents.
+     * @throws PatternSyntaxException If the letter isn't a flag.
+     */
+    private static int toFlag(final String value, final int index) {
+        switch (value.charAt(index)) {
+            case 'i': return Pattern.CASE_INSENSITIVE;
+            case 'd': return Pattern.UNIX_LINES;
+            case 'm': return Pattern.MULTILINE;
+            case 's': return Pattern.DOTALL;
+            case 'u': return Pattern.UNICODE_CASE;
+            case 'x': return Pattern.COMMENTS;
+            case 'U': return Pattern.UNICODE_CHARACTER_CLASS;
+            default: throw new PatternSyntaxException("Unknown flag after delimited regular expression", value, index);
+        }
     }
 }
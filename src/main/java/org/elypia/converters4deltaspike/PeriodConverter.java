@@ -38,6 +38,12 @@ import java.util.Objects;
 public class PeriodConverter implements ConfigResolver.Converter<Period> {
 
     /**
+     * <p>
+     *     Values that are only digits, with an optional sign, are read as
+     *     {@link ChronoUnit#DAYS} directly, so an exception is never thrown
+     *     and caught internally for valid values.
+     * </p>
+     *
      * @param value The value of the configuration property.
      * @return A value provided, converting to a {@link Period} of time instead.
      * @throws NullPointerException If the value is null.
@@ -48,15 +54,19 @@ public class PeriodConverter implements ConfigResolver.Converter<Period> {
     public Period convert(String value) {
         Objects.requireNonNull(value, "Value can't be null.");
 
-        try {
-            return Period.parse(value);
-        } catch (DateTimeParseException ex) {
+        if (Numbers.isInteger(value)) {
             try {
                 int number = Integer.parseInt(value);
                 return Period.ofDays(number);
-            } catch (RuntimeException rEx) {
-                throw new IllegalArgumentException("Value provided is not a valid Period String, or valid Integer value and can't be converted to a Period.", rEx);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Value provided is too large to be a valid Integer value and can't be converted to a Period.", ex);
             }
         }
+
+        try {
+            return Period.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Value provided is not a valid Period String, or valid Integer value and can't be converted to a Period.", ex);
+        }
     }
 }
@@ -20,43 +20,94 @@ import org.apache.deltaspike.core.api.config.ConfigResolver;
 
 import java.awt.Point;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
+ * <p>
+ *     Converts a pair of coordinates in brackets, such as <code>(40, 200)</code>,
+ *     into a {@link Point}. Whitespace is allowed around the brackets and
+ *     between the coordinates.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     The value is scanned once and each coordinate is parsed in place with
+ *     {@link Integer#parseInt(CharSequence, int, int, int)}, so nothing is
+ *     allocated other than the {@link Point}.
+ * </p>
+ *
  * @author seth@elypia.org (Seth Falco)
  * @since 1.1.0
  */
 public class PointConverter implements ConfigResolver.Converter<Point> {
 
-    /** Pattern used to split the {@link Point#x} and {@link Point#y} coordinate. */
-    private static final Pattern POINT_SPLIT = Pattern.compile("\\s*,\\s*");
-
     /**
      * @param value The {@link String} property value to convert.
      * @return A {@link Point} represented by the x and y coordinate of the input.
      * @throws NullPointerException If the value is null.
      * @throws IllegalArgumentException If the configuration value is an invalid representation of a {@link Point}.
+     * @throws NumberFormatException If a coordinate is too large to be an {@link Integer}.
      */
     @Override
     public Point convert(String value) {
         Objects.requireNonNull(value, "Value must not be null.");
 
-        if (value.isEmpty())
+        int from = skipWhitespace(value, 0);
+        int to = value.length();
+
+        while (to > from && Character.isWhitespace(value.charAt(to - 1)))
+            to--;
+
+        if (from == to)
             throw new IllegalArgumentException("A point can not be empty.");
 
-        final int lastCharIndex = value.length() - 1;
+        final int close = to - 1;
 
-        if (value.charAt(0) != '(' || value.charAt(lastCharIndex) != ')')
+        if (value.charAt(from) != '(' || value.charAt(close) != ')' || close == from)
             throw new IllegalArgumentException("Point coordinates must be enclosed in brackets.");
 
-        final String coordinates = value.substring(1, lastCharIndex);
-        final String[] xy = POINT_SPLIT.split(coordinates);
+        final int xStart = skipWhitespace(value, from + 1);
+        final int xEnd = scanInteger(value, xStart, close);
+        final int comma = skipWhitespace(value, xEnd);
 
-        if (xy.length != 2)
+        if (xEnd == xStart || comma == close || value.charAt(comma) != ',')
             throw new IllegalArgumentException("Point must have an x coordinate, and y coordinate only, expecting the following format: (40, 200)");
 
-        final int x = Integer.parseInt(xy[0]);
-        final int y = Integer.parseInt(xy[1]);
+        final int yStart = skipWhitespace(value, comma + 1);
+        final int yEnd = scanInteger(value, yStart, close);
+
+        if (yEnd == yStart || skipWhitespace(value, yEnd) != close)
+            throw new IllegalArgumentException("Point must have an x coordinate, and y coordinate only, expecting the following format: (40, 200)");
+
+        final int x = Integer.parseInt(value, xStart, xEnd, 10);
+        final int y = Integer.parseInt(value, yStart, yEnd, 10);
         return new Point(x, y);
     }
+
+    /**
+     * @return The index after an optional sign and digits starting at <code>from</code>,
+     * or <code>from</code> if there are no digits.
+     */
+    private static int scanInteger(final String value, final int from, final int to) {
+        int pos = from;
+
+        if (pos < to && (value.charAt(pos) == '-' || value.charAt(pos) == '+'))
+            pos++;
+
+        final int digits = pos;
+
+        while (pos < to && Numbers.isDigit(value.charAt(pos)))
+            pos++;
+
+        return (pos == digits) ? from : pos;
+    }
+
+    private static int skipWhitespace(final String value, final int from) {
+        int pos = from;
+
+        while (pos < value.length() && Character.isWhitespace(value.charAt(pos)))
+            pos++;
+
+        return pos;
+    }
 }
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * <p>
+ *     Rejects regular expressions with an unbounded quantifier applied to a group
+ *     which itself contains an unbounded quantifier, such as <code>(a+)+</code>
+ *     or <code>(?:\s*,)*</code>. When these fail to match, the number of ways the
+ *     input can be split between the quantifiers grows exponentially, which is
+ *     known as catastrophic backtracking.
+ * </p>
+ *
+ * <p>
+ *     Possessive quantifiers, such as <code>a++</code>, and atomic groups never
+ *     backtrack, so they're allowed. Other sources of exponential backtracking,
+ *     such as overlapping alternatives, aren't detected.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     The regular expression is scanned once from left to right, without
+ *     compiling it, tracking if each open group contains an unbounded quantifier,
+ *     and if comments are enabled in it by {@link Pattern#COMMENTS} or an embedded
+ *     <code>x</code> flag. Escapes, quoted sections, and character classes are
+ *     skipped over, as are whitespace and comments when they're enabled. A malformed
+ *     regular expression isn't rejected here, it's left for {@link Pattern#compile(String, int)}.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ * @see <a href="https://owasp.org/www-community/attacks/Regular_expression_Denial_of_Service_-_ReDoS">ReDoS on OWASP</a>
+ */
+final class QuantifierAnalyzer {
+
+    /** Group nesting deeper than this isn't tracked, only the outer groups are checked. */
+    private static final int MAX_DEPTH = 64;
+
+    private QuantifierAnalyzer() {
+        // Do nothing.
+    }
+
+    /**
+     * @param regex The regular expression to check.
+     * @param flags The flags it will be compiled with, to know if it's literal or may contain comments.
+     * @throws PatternSyntaxException If an unbounded quantifier is applied to a
+     * group which contains an unbounded quantifier.
+     */
+    static void check(final String regex, final int flags) {
+        if ((flags & Pattern.LITERAL) != 0)
+            return;
+
+        final int length = regex.length();
+
+        // If each open group contains an unbounded quantifier, if it's atomic, and if comments are enabled.
+        final boolean[] unbounded = new boolean[MAX_DEPTH + 1];
+        final boolean[] atomic = new boolean[MAX_DEPTH + 1];
+        final boolean[] comments = new boolean[MAX_DEPTH + 1];
+        comments[0] = (flags & Pattern.COMMENTS) != 0;
+        int depth = 0;
+        int pos = 0;
+
+        while (pos < length) {
+            final char c = regex.charAt(pos);
+            final boolean commentsEnabled = comments[Math.min(depth, MAX_DEPTH)];
+            boolean groupUnbounded = false;
+
+            switch (c) {
+                case '\\':
+                    if (pos + 1 < length && regex.charAt(pos + 1) == 'Q') {
+                        final int end = regex.indexOf("\\E", pos + 2);
+                        pos = (end == -1) ? length : end + 2;
+                        continue;
+                    }
+
+                    pos = Math.min(pos + 2, length);
+                    break;
+                case '[':
+                    pos = skipCharacterClass(regex, pos);
+                    break;
+                case '#':
+                    if (commentsEnabled) {
+                        final int end = regex.indexOf('\n', pos);
+                        pos = (end == -1) ? length : end + 1;
+                        continue;
+                    }
+
+                    pos++;
+                    break;
+                case '(': {
+                    final int question = skipIgnored(regex, pos + 1, commentsEnabled);
+                    boolean groupComments = commentsEnabled;
+                    boolean groupAtomic = false;
+                    pos++;
+
+                    if (question < length && regex.charAt(question) == '?') {
+                        // Embedded flags, such as (?x), (?-x), or (?x:...), may enable or disable comments.
+                        boolean enable = true;
+                        int flagPos = skipIgnored(regex, question + 1, commentsEnabled);
+
+                        while (flagPos < length && isFlag(regex.charAt(flagPos))) {
+                            final char flag = regex.charAt(flagPos);
+
+                            if (flag == '-')
+                                enable = false;
+                            else if (flag == 'x')
+                                groupComments = enable;
+
+                            flagPos = skipIgnored(regex, flagPos + 1, commentsEnabled);
+                        }
+
+                        final char end = (flagPos < length) ? regex.charAt(flagPos) : 0;
+
+                        // Flags without a group apply until the end of the enclosing group.
+                        if (end == ')' && flagPos > question + 1) {
+                            comments[Math.min(depth, MAX_DEPTH)] = groupComments;
+                            pos = flagPos + 1;
+                            continue;
+                        }
+
+                        if (end == ':')
+                            pos = flagPos + 1;
+                        else
+                            groupComments = commentsEnabled;
+
+                        groupAtomic = (end == '>');
+                    }
+
+                    depth++;
+
+                    if (depth <= MAX_DEPTH) {
+                        unbounded[depth] = false;
+                        atomic[depth] = groupAtomic;
+                        comments[depth] = groupComments;
+                    }
+
+                    continue;
+                }
+                case ')':
+                    if (depth == 0)
+                        return;
+
+                    if (depth <= MAX_DEPTH)
+                        groupUnbounded = unbounded[depth] && !atomic[depth];
+
+                    depth--;
+                    pos++;
+                    break;
+                default:
+                    pos++;
+            }
+
+            final boolean quantifierComments = comments[Math.min(depth, MAX_DEPTH)];
+            final int quantifierEnd = skipQuantifier(regex, pos, quantifierComments);
+
+            if (quantifierEnd == pos) {
+                if (groupUnbounded && depth <= MAX_DEPTH)
+                    unbounded[depth] = true;
+
+                continue;
+            }
+
+            final boolean quantifierUnbounded = isUnbounded(regex, pos, quantifierEnd, quantifierComments);
+
+            if (quantifierUnbounded && groupUnbounded)
+                throw new PatternSyntaxException("Nested unbounded quantifiers can cause catastrophic backtracking", regex, pos);
+
+            if ((quantifierUnbounded || groupUnbounded) && depth <= MAX_DEPTH)
+                unbounded[depth] = true;
+
+            pos = quantifierEnd;
+        }
+    }
+
+    /**
+     * @return The index after the character class starting at <code>from</code>.
+     */
+    private static int skipCharacterClass(final String regex, final int from) {
+        final int length = regex.length();
+        int depth = 0;
+        int pos = from;
+
+        while (pos < length) {
+            final char c = regex.charAt(pos);
+
+            if (c == '\\') {
+                pos += 2;
+                continue;
+            }
+
+            if (c == '[') {
+                depth++;
+                pos++;
+
+                if (pos < length && regex.charAt(pos) == '^')
+                    pos++;
+
+                // A closing bracket straight after the opening bracket is literal.
+                if (pos < length && regex.charAt(pos) == ']')
+                    pos++;
+
+                continue;
+            }
+
+            pos++;
+
+            if (c == ']' && --depth == 0)
+                return pos;
+        }
+
+        return length;
+    }
+
+    /**
+     * @return The index after the quantifier starting at <code>from</code>,
+     * including any lazy or possessive suffix, or <code>from</code> if there is none.
+     */
+    private static int skipQuantifier(final String regex, final int from, final boolean comments) {
+        final int length = regex.length();
+        int pos = skipIgnored(regex, from, comments);
+
+        if (pos >= length)
+            return from;
+
+        final char c = regex.charAt(pos);
+
+        if (c == '*' || c == '+' || c == '?') {
+            pos++;
+        } else if (c == '{') {
+            final int end = regex.indexOf('}', pos);
+
+            if (end == -1)
+                return from;
+
+            pos = end + 1;
+        } else {
+            return from;
+        }
+
+        final int suffix = skipIgnored(regex, pos, comments);
+
+        if (suffix < length && (regex.charAt(suffix) == '?' || regex.charAt(suffix) == '+'))
+            pos = suffix + 1;
+
+        return pos;
+    }
+
+    /**
+     * @return If the quantifier may repeat without a limit and backtrack, so
+     * isn't possessive and is <code>*</code>, <code>+</code>, or <code>{n,}</code>.
+     */
+    private static boolean isUnbounded(final String regex, final int from, final int to, final boolean comments) {
+        final int start = skipIgnored(regex, from, comments);
+
+        if (to - 1 != start && regex.charAt(to - 1) == '+')
+            return false;
+
+        final char c = regex.charAt(start);
+
+        if (c == '*' || c == '+')
+            return true;
+
+        if (c != '{')
+            return false;
+
+        final int close = regex.indexOf('}', start);
+        final int comma = regex.indexOf(',', start);
+
+        if (comma == -1 || comma > close)
+            return false;
+
+        for (int i = comma + 1; i < close; i++) {
+            if (Numbers.isDigit(regex.charAt(i)))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Skips the whitespace and comments that {@link Pattern} ignores when comments are enabled.
+     *
+     * @return The index of the next character which isn't ignored.
+     */
+    private static int skipIgnored(final String regex, int pos, final boolean comments) {
+        if (!comments)
+            return pos;
+
+        final int length = regex.length();
+
+        while (pos < length) {
+            final char c = regex.charAt(pos);
+
+            if (c == '#') {
+                final int end = regex.indexOf('\n', pos);
+                pos = (end == -1) ? length : end + 1;
+            } else if (c == ' ' || (c >= '\t' && c <= '\r')) {
+                pos++;
+            } else {
+                break;
+            }
+        }
+
+        return pos;
+    }
+
+    /**
+     * @return If the character may appear in the flags of an embedded flag expression.
+     */
+    private static boolean isFlag(final char c) {
+        return c == '-' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>
+ *     Converts a comma separated list of elements into an unmodifiable
+ *     {@link Set}, converting each element with another converter, for example:
+ * </p>
+ *
+ * <pre><code>
+ * public class UuidSetConverter extends SetConverter&lt;UUID&gt; {
+ *
+ *     public UuidSetConverter() {
+ *         super(new UuidConverter());
+ *     }
+ * }
+ * </code></pre>
+ *
+ * <p>
+ *     Elements are split the same way as {@link ListConverter}. Duplicate
+ *     elements are only included once, and the {@link Set} iterates in
+ *     the order the elements were first listed.
+ * </p>
+ *
+ * @param <T> The type of each element.
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class SetConverter<T> implements ConfigResolver.Converter<Set<T>> {
+
+    /** The converter to convert each element with. */
+    private final ConfigResolver.Converter<T> converter;
+
+    /** The character which separates elements. */
+    private final char delimiter;
+
+    /** The number of elements at which they're converted in parallel. */
+    private final int parallelThreshold;
+
+    /**
+     * @param converter The converter to convert each element with.
+     */
+    public SetConverter(final ConfigResolver.Converter<T> converter) {
+        this(converter, ',', Elements.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param converter The converter to convert each element with.
+     * @param delimiter The character which separates elements.
+     * @param parallelThreshold The number of elements at which they're converted in parallel,
+     * or {@link Integer#MAX_VALUE} to always convert them on the calling thread.
+     * @throws IllegalArgumentException If the delimiter is a backslash or whitespace,
+     * or the threshold isn't greater than 0.
+     */
+    public SetConverter(final ConfigResolver.Converter<T> converter, final char delimiter, final int parallelThreshold) {
+        this.converter = Objects.requireNonNull(converter);
+        this.delimiter = Elements.requireDelimiter(delimiter);
+        this.parallelThreshold = Elements.requireThreshold(parallelThreshold);
+    }
+
+    /**
+     * @param value The value of the configuration property.
+     * @return An unmodifiable {@link Set} of the converted elements, in the order they were first listed.
+     * @throws NullPointerException If the value is null.
+     * @throws IllegalArgumentException If any element is empty or can't be converted.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<T> convert(String value) {
+        Objects.requireNonNull(value, "Value can't be null.");
+
+        final List<String> elements = Elements.split(value, delimiter);
+        final int size = elements.size();
+
+        if (size == 0)
+            return Set.of();
+
+        final T[] results = (T[])new Object[size];
+        Elements.convert(converter, elements, results, parallelThreshold);
+
+        final Set<T> set = new LinkedHashSet<>((int)(size / 0.75f) + 1);
+        Collections.addAll(set, results);
+        return Collections.unmodifiableSet(set);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import org.apache.deltaspike.core.api.config.ConfigResolver;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ *     Converts a comma separated list of subnets in CIDR notation
+ *     into {@link Subnets}, such as for an allowlist of clients.
+ * </p>
+ *
+ * This accepts values such as:
+ * <ul>
+ *     <li><code>10.0.0.0/8</code></li>
+ *     <li><code>192.168.0.0/16, 127.0.0.1</code></li>
+ *     <li><code>2001:db8::/32, ::1/128</code></li>
+ * </ul>
+ *
+ * <p>
+ *     An address without a prefix length is a subnet of only that address.
+ *     Host names are never resolved, and subnets with bits set after the
+ *     prefix length, such as <code>10.0.0.1/8</code>, are rejected as
+ *     they're usually a mistake.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ * @see <a href="https://en.wikipedia.org/wiki/Classless_Inter-Domain_Routing">Classless Inter-Domain Routing on Wikipedia</a>
+ */
+public class SubnetConverter implements ConfigResolver.Converter<Subnets> {
+
+    /**
+     * @param value The value of the configuration property.
+     * @return The {@link Subnets} listed in the configuration property.
+     * @throws NullPointerException If the value is null.
+     * @throws IllegalArgumentException If any subnet isn't a valid IPv4 or IPv6 subnet.
+     */
+    @Override
+    public Subnets convert(String value) {
+        Objects.requireNonNull(value, "Value can't be null.");
+
+        final Subnets.Builder builder = new Subnets.Builder();
+        final int length = value.length();
+        int from = 0;
+
+        while (from <= length) {
+            int to = value.indexOf(',', from);
+
+            if (to == -1)
+                to = length;
+
+            addSubnet(builder, value, from, to);
+            from = to + 1;
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param value The value of the configuration property.
+     * @param from The index the subnet starts at, inclusive, possibly whitespace.
+     * @param to The index the subnet ends at, exclusive, possibly whitespace.
+     */
+    private static void addSubnet(final Subnets.Builder builder, final String value, int from, int to) {
+        while (from < to && Character.isWhitespace(value.charAt(from)))
+            from++;
+
+        while (to > from && Character.isWhitespace(value.charAt(to - 1)))
+            to--;
+
+        if (from == to)
+            throw new IllegalArgumentException("Subnets can't be empty.");
+
+        int slash = value.indexOf('/', from);
+
+        if (slash >= to)
+            slash = -1;
+
+        final int addressEnd = (slash == -1) ? to : slash;
+        byte[] address = InetLiterals.parseIpv4(value, from, addressEnd);
+
+        if (address == null)
+            address = InetLiterals.parseIpv6(value, from, addressEnd);
+
+        if (address == null)
+            throw new IllegalArgumentException("Subnet " + value.substring(from, to) + " isn't a valid IPv4 or IPv6 address.");
+
+        builder.add(address, (slash == -1) ? address.length * 8 : parsePrefix(value, slash + 1, to));
+    }
+
+    private static int parsePrefix(final String value, final int from, final int to) {
+        if (from == to || to - from > 3)
+            throw new IllegalArgumentException("Prefix length must be 1 to 3 digits.");
+
+        int prefix = 0;
+
+        for (int i = from; i < to; i++) {
+            final char c = value.charAt(i);
+
+            if (!Numbers.isDigit(c))
+                throw new IllegalArgumentException("Prefix length must be 1 to 3 digits.");
+
+            prefix = prefix * 10 + (c - '0');
+        }
+
+        return prefix;
+    }
+}
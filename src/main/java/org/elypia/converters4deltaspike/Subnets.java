@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020-2020 Elypia CIC and Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.elypia.converters4deltaspike;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ *     An immutable set of IPv4 and IPv6 subnets, such as an allowlist
+ *     of clients, which can be checked for an IP address.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     Each subnet is stored as the range of addresses it covers, with
+ *     overlapping and adjacent ranges merged, in sorted arrays of the high and
+ *     low 64 bits of the first and last address. Checking an address is a
+ *     binary search over these arrays, which doesn't allocate when using
+ *     {@link #contains(byte[])}.
+ * </p>
+ *
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ * @see SubnetConverter
+ */
+public final class Subnets {
+
+    /** The merged ranges of IPv4 addresses, held in the low 32 bits. */
+    private final Ranges ipv4;
+
+    /** The merged ranges of IPv6 addresses. */
+    private final Ranges ipv6;
+
+    private Subnets(final Ranges ipv4, final Ranges ipv6) {
+        this.ipv4 = ipv4;
+        this.ipv6 = ipv6;
+    }
+
+    /**
+     * @param address The IP address to check.
+     * @return If the address is in any of the subnets.
+     * @throws NullPointerException If the address is null.
+     */
+    public boolean contains(final InetAddress address) {
+        return contains(address.getAddress());
+    }
+
+    /**
+     * @param address The 4 bytes of an IPv4 address, or 16 bytes of an IPv6 address,
+     * in network byte order as returned by {@link InetAddress#getAddress()}.
+     * @return If the address is in any of the subnets.
+     * @throws NullPointerException If the address is null.
+     * @throws IllegalArgumentException If the address isn't 4 or 16 bytes long.
+     */
+    public boolean contains(final byte[] address) {
+        if (address.length == 4)
+            return ipv4.contains(0, toLong(address, 0, 4));
+
+        if (address.length == 16)
+            return ipv6.contains(toLong(address, 0, 8), toLong(address, 8, 16));
+
+        throw new IllegalArgumentException("Address must be 4 or 16 bytes long.");
+    }
+
+    /**
+     * @return If there are no subnets, so no address is contained.
+     */
+    public boolean isEmpty() {
+        return ipv4.size() == 0 && ipv6.size() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Subnets[ipv4Ranges=" + ipv4.size() + ", ipv6Ranges=" + ipv6.size() + "]";
+    }
+
+    private static long toLong(final byte[] bytes, final int from, final int to) {
+        long result = 0;
+
+        for (int i = from; i < to; i++)
+            result = (result << 8) | (bytes[i] & 0xFF);
+
+        return result;
+    }
+
+    /**
+     * Collects subnets, so they can be sorted and merged into a {@link Subnets}.
+     */
+    static final class Builder {
+
+        private final List<long[]> ipv4 = new ArrayList<>();
+        private final List<long[]> ipv6 = new ArrayList<>();
+
+        /**
+         * @param address The 4 or 16 bytes of the network address.
+         * @param prefix The number of leading bits which identify the network.
+         * @throws IllegalArgumentException If the prefix is too long for the address,
+         * or any bits after the prefix are set.
+         */
+        Builder add(final byte[] address, final int prefix) {
+            final int bits = address.length * 8;
+
+            if (prefix < 0 || prefix > bits)
+                throw new IllegalArgumentException("Prefix length must be between 0 and " + bits + ".");
+
+            if (address.length == 4) {
+                final long hostMask = (1L << (32 - prefix)) - 1;
+                final long start = toLong(address, 0, 4);
+
+                if ((start & hostMask) != 0)
+                    throw new IllegalArgumentException("Subnet has bits set after the prefix length.");
+
+                ipv4.add(new long[] {0, start, 0, start | hostMask});
+                return this;
+            }
+
+            final long hi = toLong(address, 0, 8);
+            final long lo = toLong(address, 8, 16);
+            final long hiMask = (prefix >= 64) ? 0 : -1L >>> prefix;
+            final long loMask = (prefix <= 64) ? -1L : (prefix == 128) ? 0 : -1L >>> (prefix - 64);
+
+            if ((hi & hiMask) != 0 || (lo & loMask) != 0)
+                throw new IllegalArgumentException("Subnet has bits set after the prefix length.");
+
+            ipv6.add(new long[] {hi, lo, hi | hiMask, lo | loMask});
+            return this;
+        }
+
+        Subnets build() {
+            return new Subnets(Ranges.of(ipv4), Ranges.of(ipv6));
+        }
+    }
+
+    /**
+     * Sorted, non-overlapping, and non-adjacent ranges of 128-bit unsigned numbers.
+     */
+    private static final class Ranges {
+
+        private final long[] startHi;
+        private final long[] startLo;
+        private final long[] endHi;
+        private final long[] endLo;
+
+        private Ranges(final int size) {
+            this.startHi = new long[size];
+            this.startLo = new long[size];
+            this.endHi = new long[size];
+            this.endLo = new long[size];
+        }
+
+        /**
+         * @param ranges Ranges as the high and low bits of the start, then the high and low bits of the end.
+         */
+        private static Ranges of(final List<long[]> ranges) {
+            ranges.sort((a, b) -> compare(a[0], a[1], b[0], b[1]));
+
+            final List<long[]> merged = new ArrayList<>(ranges.size());
+
+            for (long[] range : ranges) {
+                if (!merged.isEmpty()) {
+                    final long[] last = merged.get(merged.size() - 1);
+
+                    if (isAdjacentOrOverlapping(last, range)) {
+                        if (compare(range[2], range[3], last[2], last[3]) > 0) {
+                            last[2] = range[2];
+                            last[3] = range[3];
+                        }
+
+                        continue;
+                    }
+                }
+
+                merged.add(Arrays.copyOf(range, 4));
+            }
+
+            final Ranges result = new Ranges(merged.size());
+
+            for (int i = 0; i < merged.size(); i++) {
+                final long[] range = merged.get(i);
+                result.startHi[i] = range[0];
+                result.startLo[i] = range[1];
+                result.endHi[i] = range[2];
+                result.endLo[i] = range[3];
+            }
+
+            return result;
+        }
+
+        /**
+         * @return If the next range starts at or before the address after the end of the last range.
+         */
+        private static boolean isAdjacentOrOverlapping(final long[] last, final long[] next) {
+            if (last[2] == -1L && last[3] == -1L)
+                return true;
+
+            final long afterLo = last[3] + 1;
+            final long afterHi = (afterLo == 0) ? last[2] + 1 : last[2];
+            return compare(next[0], next[1], afterHi, afterLo) <= 0;
+        }
+
+        private int size() {
+            return startHi.length;
+        }
+
+        /**
+         * @return If the address is in any range, found by a binary search
+         * for the last range that starts at or before the address.
+         */
+        private boolean contains(final long hi, final long lo) {
+            int low = 0;
+            int high = startHi.length - 1;
+            int candidate = -1;
+
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+
+                if (compare(startHi[mid], startLo[mid], hi, lo) <= 0) {
+                    candidate = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+
+            return candidate != -1 && compare(hi, lo, endHi[candidate], endLo[candidate]) <= 0;
+        }
+
+        private static int compare(final long aHi, final long aLo, final long bHi, final long bLo) {
+            final int comparison = Long.compareUnsigned(aHi, bHi);
+            return (comparison != 0) ? comparison : Long.compareUnsigned(aLo, bLo);
+        }
+    }
+}
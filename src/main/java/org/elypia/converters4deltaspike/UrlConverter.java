@@ -18,26 +18,79 @@ package org.elypia.converters4deltaspike;
 
 import org.apache.deltaspike.core.api.config.ConfigResolver;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
- * Converts url to a Java {@link URL} instance.
- * This also can be extended to support filtering of URL components
- * such as {@link URL#getProtocol()} for more specialized use or validation.
+ * <p>
+ *     Converts url to a Java {@link URL} instance.
+ *     This also can be extended to support filtering of URL components
+ *     such as {@link URL#getProtocol()} for more specialized use or validation.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     The protocol is scanned and checked against the allowed protocols
+ *     before the {@link URL} is constructed, so values with a protocol
+ *     that isn't allowed are rejected without looking up a {@link URLStreamHandler}.
+ * </p>
  *
  * @author seth@elypia.org (Seth Falco)
  * @since 1.0.0
  */
 public class UrlConverter implements ConfigResolver.Converter<URL> {
 
+    /**
+     * Optional behavior of the {@link UrlConverter}.
+     *
+     * @since 1.1.0
+     */
+    public enum Option {
+
+        /**
+         * <p>
+         *     Accept URLs with a protocol that has no {@link URLStreamHandler}, such as
+         *     <code>s3://bucket/key</code> or <code>redis://localhost:6379</code>, as long
+         *     as they're a valid {@link URI}.
+         * </p>
+         *
+         * <p>
+         *     These can be read with {@link URL#toURI()} and the methods of
+         *     {@link URL}, but opening a connection to them throws an {@link IOException}.
+         * </p>
+         */
+        ALLOW_UNKNOWN_PROTOCOLS
+    }
+
+    /** Handles URLs with an unknown protocol, which can be read but not connected to. */
+    private static final URLStreamHandler UNKNOWN_PROTOCOL_HANDLER = new URLStreamHandler() {
+
+        @Override
+        protected URLConnection openConnection(final URL url) throws IOException {
+            throw new IOException("Unable to connect to " + url + ", there is no handler for the protocol " + url.getProtocol() + ".");
+        }
+    };
+
     /** A list of allowed protocols, or null to disable this. */
     private final Set<String> allowedProtocols;
 
+    /** The {@link #allowedProtocols} as an array, to check the protocol in place. */
+    private final String[] allowedProtocolArray;
+
+    /** If {@link Option#ALLOW_UNKNOWN_PROTOCOLS} is enabled. */
+    private final boolean allowUnknownProtocols;
+
     public UrlConverter() {
         this(null);
     }
@@ -46,13 +99,33 @@ public class UrlConverter implements ConfigResolver.Converter<URL> {
      * @param allowedProtocols An array of allowed protocols, or null to disable checking.
      */
     public UrlConverter(Collection<String> allowedProtocols) {
+        this(allowedProtocols, new Option[0]);
+    }
+
+    /**
+     * @param allowedProtocols An array of allowed protocols, or null to disable checking.
+     * @param options The optional behavior to enable.
+     * @since 1.1.0
+     */
+    public UrlConverter(Collection<String> allowedProtocols, Option... options) {
         if (allowedProtocols != null) {
             this.allowedProtocols = allowedProtocols.stream()
-                .map(String::toLowerCase)
+                .map((protocol) -> protocol.toLowerCase(Locale.ROOT))
                 .collect(Collectors.toUnmodifiableSet());
+            this.allowedProtocolArray = this.allowedProtocols.toArray(new String[0]);
         } else {
             this.allowedProtocols = null;
+            this.allowedProtocolArray = null;
+        }
+
+        boolean allowUnknownProtocols = false;
+
+        for (Option option : options) {
+            if (option == Option.ALLOW_UNKNOWN_PROTOCOLS)
+                allowUnknownProtocols = true;
         }
+
+        this.allowUnknownProtocols = allowUnknownProtocols;
     }
 
     /**
@@ -65,19 +138,113 @@ public class UrlConverter implements ConfigResolver.Converter<URL> {
     public URL convert(String value) {
         Objects.requireNonNull(value, "Value can't be null.");
 
-        try {
-            URL url = new URL(value);
+        final int start = skipUrlPrefix(value);
+        final int end = scanProtocol(value, start);
 
-            if (allowedProtocols != null) {
-                String protocol = url.getProtocol().toLowerCase();
+        if (end == -1)
+            throw new IllegalArgumentException("Configuration value provided is not a valid URL, it doesn't specify a protocol.");
 
-                if (!allowedProtocols.contains(protocol))
-                    throw new IllegalArgumentException("URL provided must specify one of the following protocols: " + String.join(", ", allowedProtocols));
-            }
+        if (allowedProtocolArray != null && !isAllowed(value, start, end))
+            throw new IllegalArgumentException("URL provided must specify one of the following protocols: " + String.join(", ", allowedProtocols));
 
-            return url;
+        try {
+            return new URL(value);
         } catch (MalformedURLException ex) {
+            if (allowUnknownProtocols && !hasHandler(value.substring(start, end)))
+                return toUnknownProtocolUrl(value, start, ex);
+
             throw new IllegalArgumentException("Configuration value provided is not a valid URL, or uses an unknown protocol.", ex);
         }
     }
+
+    /**
+     * @param value The value of the configuration property.
+     * @param start The index the protocol starts at.
+     * @param cause Why the {@link URL} couldn't be constructed normally.
+     * @return A {@link URL} which can't be connected to.
+     */
+    private static URL toUnknownProtocolUrl(final String value, final int start, final MalformedURLException cause) {
+        try {
+            final URI uri = new URI(value.substring(start).trim());
+            return new URL(null, uri.toString(), UNKNOWN_PROTOCOL_HANDLER);
+        } catch (URISyntaxException | MalformedURLException ex) {
+            ex.addSuppressed(cause);
+            throw new IllegalArgumentException("Configuration value provided is not a valid URL or URI.", ex);
+        }
+    }
+
+    /**
+     * @param protocol The protocol of the {@link URL}.
+     * @return If a {@link URLStreamHandler} is registered for the protocol, so a
+     * {@link URL} which failed to construct is malformed rather than unknown.
+     */
+    private static boolean hasHandler(final String protocol) {
+        try {
+            new URL(protocol, "", -1, "");
+            return true;
+        } catch (MalformedURLException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * @return If the protocol between the indexes is one of the {@link #allowedProtocols}, ignoring case.
+     */
+    private boolean isAllowed(final String value, final int start, final int end) {
+        final int length = end - start;
+
+        for (String protocol : allowedProtocolArray) {
+            if (protocol.length() == length && value.regionMatches(true, start, protocol, 0, length))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Like {@link URL#URL(String)}, skips leading whitespace and an
+     * optional <code>url:</code> prefix.
+     *
+     * @return The index the protocol starts at.
+     */
+    private static int skipUrlPrefix(final String value) {
+        final int length = value.length();
+        int pos = 0;
+
+        while (pos < length && value.charAt(pos) <= ' ')
+            pos++;
+
+        if (value.regionMatches(true, pos, "url:", 0, 4))
+            pos += 4;
+
+        return pos;
+    }
+
+    /**
+     * @return The index of the colon after the protocol starting at <code>from</code>,
+     * or -1 if there is no valid protocol.
+     * @see <a href="https://tools.ietf.org/html/rfc3986#section-3.1">RFC 3986: Scheme</a>
+     */
+    private static int scanProtocol(final String value, final int from) {
+        final int length = value.length();
+
+        if (from >= length || !isAsciiLetter(value.charAt(from)))
+            return -1;
+
+        for (int pos = from + 1; pos < length; pos++) {
+            final char c = value.charAt(pos);
+
+            if (c == ':')
+                return pos;
+
+            if (!isAsciiLetter(c) && !Numbers.isDigit(c) && c != '+' && c != '-' && c != '.')
+                return -1;
+        }
+
+        return -1;
+    }
+
+    private static boolean isAsciiLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
 }
@@ -18,17 +18,100 @@ package org.elypia.converters4deltaspike;
 
 import org.apache.deltaspike.core.api.config.ConfigResolver;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.UUID;
 
 /**
- * Convert a configuration property value to a {@link UUID}.
+ * <p>
+ *     Convert a configuration property value to a {@link UUID}.
+ * </p>
+ *
+ * <p>
+ *     Values must be in the canonical 36 character layout,
+ *     such as <code>cebfb280-a7b0-4561-bc75-f71a1a08f66b</code>,
+ *     in upper or lower case. The 32 character form without dashes and
+ *     the <code>urn:uuid:</code> form can be accepted with {@link Option}s.
+ * </p>
+ *
+ * <p><small>Implementation Notes</small></p>
+ *
+ * <p>
+ *     Unlike {@link UUID#fromString(String)}, this checks the length of
+ *     each group, and decodes the hexadecimal digits with a lookup table
+ *     straight into the most and least significant bits.
+ * </p>
  *
  * @author seth@elypia.org (Seth Falco)
  * @since 1.0.0
+ * @see <a href="https://tools.ietf.org/html/rfc4122#section-3">RFC 4122: Namespace Registration Template</a>
  */
 public class UuidConverter implements ConfigResolver.Converter<UUID> {
 
+    /**
+     * Additional formats the {@link UuidConverter} accepts.
+     *
+     * @since 1.1.0
+     */
+    public enum Option {
+
+        /** Accept 32 hexadecimal digits without dashes, such as <code>cebfb280a7b04561bc75f71a1a08f66b</code>. */
+        DASHLESS,
+
+        /** Accept the URN form, such as <code>urn:uuid:cebfb280-a7b0-4561-bc75-f71a1a08f66b</code>. */
+        URN
+    }
+
+    /** The prefix of a {@link UUID} in the URN form, which is case-insensitive. */
+    private static final String URN_PREFIX = "urn:uuid:";
+
+    /** The value of each ASCII hexadecimal digit, or -1 for any other ASCII character. */
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte)-1);
+
+        for (int i = 0; i < 10; i++)
+            HEX_VALUES['0' + i] = (byte)i;
+
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte)(10 + i);
+            HEX_VALUES['A' + i] = (byte)(10 + i);
+        }
+    }
+
+    /** If {@link Option#DASHLESS} is enabled. */
+    private final boolean dashless;
+
+    /** If {@link Option#URN} is enabled. */
+    private final boolean urn;
+
+    /**
+     * Constructs the {@link UuidConverter} which only accepts the standard format.
+     */
+    public UuidConverter() {
+        this(new Option[0]);
+    }
+
+    /**
+     * @param options The additional formats to accept.
+     * @since 1.1.0
+     */
+    public UuidConverter(final Option... options) {
+        boolean dashless = false;
+        boolean urn = false;
+
+        for (Option option : options) {
+            if (option == Option.DASHLESS)
+                dashless = true;
+            else if (option == Option.URN)
+                urn = true;
+        }
+
+        this.dashless = dashless;
+        this.urn = urn;
+    }
+
     /**
      * @param value The value of the configuration property.
      * @return A {@link UUID} which represents the configuration property value.
@@ -38,6 +121,64 @@ public class UuidConverter implements ConfigResolver.Converter<UUID> {
     @Override
     public UUID convert(String value) {
         Objects.requireNonNull(value, "Value can't be null.");
-        return UUID.fromString(value);
+
+        final int length = value.length();
+
+        if (length == 36)
+            return parseCanonical(value, 0);
+
+        if (dashless && length == 32) {
+            final long msb = (hexDigits(value, 0, 8) << 32) | hexDigits(value, 8, 16);
+            final long lsb = (hexDigits(value, 16, 24) << 32) | hexDigits(value, 24, 32);
+            return new UUID(msb, lsb);
+        }
+
+        if (urn && length == 45 && value.regionMatches(true, 0, URN_PREFIX, 0, URN_PREFIX.length()))
+            return parseCanonical(value, URN_PREFIX.length());
+
+        throw new IllegalArgumentException("Value must be a UUID in the format xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx.");
+    }
+
+    /**
+     * @param value The value of the configuration property.
+     * @param offset The index the {@link UUID} starts at.
+     * @return The {@link UUID} in the 36 characters from the offset.
+     */
+    private static UUID parseCanonical(final String value, final int offset) {
+        if (value.charAt(offset + 8) != '-' || value.charAt(offset + 13) != '-' || value.charAt(offset + 18) != '-' || value.charAt(offset + 23) != '-')
+            throw new IllegalArgumentException("Value must be a UUID in the format xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx.");
+
+        final long msb = (hexDigits(value, offset, offset + 8) << 32)
+            | (hexDigits(value, offset + 9, offset + 13) << 16)
+            | hexDigits(value, offset + 14, offset + 18);
+
+        final long lsb = (hexDigits(value, offset + 19, offset + 23) << 48)
+            | hexDigits(value, offset + 24, offset + 36);
+
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * @param value The value of the configuration property.
+     * @param from The index of the first digit, inclusive.
+     * @param to The index of the last digit, exclusive, at most 15 digits after the first.
+     * @return The value of the hexadecimal digits.
+     * @throws IllegalArgumentException If any character isn't a hexadecimal digit.
+     */
+    private static long hexDigits(final String value, final int from, final int to) {
+        long result = 0;
+        int invalid = 0;
+
+        for (int i = from; i < to; i++) {
+            final char c = value.charAt(i);
+            final int digit = (c < 128) ? HEX_VALUES[c] : -1;
+            invalid |= digit;
+            result = (result << 4) | (digit & 0xF);
+        }
+
+        if (invalid < 0)
+            throw new IllegalArgumentException("Value contains characters which aren't hexadecimal digits.");
+
+        return result;
     }
 }
@@ -0,0 +1,44 @@
+package org.elypia.converters4deltaspike;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class ArrayConverterTest {
+
+    @Test
+    public void testArray() throws UnknownHostException {
+        ArrayConverter<InetAddress> converter = new ArrayConverter<>(InetAddress.class, new InetAddressConverter(true));
+
+        final InetAddress[] expected = {InetAddress.getByName("127.0.0.1"), InetAddress.getByName("::1")};
+        final InetAddress[] actual = converter.convert("127.0.0.1, ::1");
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testEmpty() {
+        ArrayConverter<InetAddress> converter = new ArrayConverter<>(InetAddress.class, new InetAddressConverter(true));
+        assertEquals(0, converter.convert("").length);
+    }
+
+    @Test
+    public void testPrimitiveType() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayConverter<>(char.class, new CharacterConverter()));
+    }
+
+    @Test
+    public void testInvalid() {
+        ArrayConverter<InetAddress> converter = new ArrayConverter<>(InetAddress.class, new InetAddressConverter(true));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("127.0.0.1, localhost"));
+    }
+}
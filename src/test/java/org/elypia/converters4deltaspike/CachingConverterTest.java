@@ -0,0 +1,129 @@
+package org.elypia.converters4deltaspike;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class CachingConverterTest {
+
+    @Test
+    public void testCachedInstance() {
+        final CachingConverter<UUID> converter = new CachingConverter<>(new UuidConverter(), 16);
+
+        final UUID expected = converter.convert("dc7e3ec6-67f0-4c3a-8b3e-2c2a9c8a4d1e");
+        final UUID actual = converter.convert("dc7e3ec6-67f0-4c3a-8b3e-2c2a9c8a4d1e");
+
+        assertSame(expected, actual);
+    }
+
+    @Test
+    public void testConvertsOnce() {
+        final AtomicInteger calls = new AtomicInteger();
+        final DurationConverter durationConverter = new DurationConverter();
+
+        final CachingConverter<Duration> converter = new CachingConverter<>((value) -> {
+            calls.incrementAndGet();
+            return durationConverter.convert(value);
+        }, 16);
+
+        converter.convert("5m");
+        converter.convert("5m");
+        converter.convert("5m");
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testMaximumSize() {
+        final CachingConverter<Duration> converter = new CachingConverter<>(new DurationConverter(), 17);
+
+        for (int i = 0; i < 1000; i++)
+            converter.convert(i + "s");
+
+        assertTrue(converter.size() <= 17);
+    }
+
+    @Test
+    public void testExpiry() throws InterruptedException {
+        final CachingConverter<UUID> converter = new CachingConverter<>(new UuidConverter(), 16, Duration.ofMillis(1));
+
+        final UUID first = converter.convert("dc7e3ec6-67f0-4c3a-8b3e-2c2a9c8a4d1e");
+        Thread.sleep(10);
+        final UUID second = converter.convert("dc7e3ec6-67f0-4c3a-8b3e-2c2a9c8a4d1e");
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testClear() {
+        final CachingConverter<Duration> converter = new CachingConverter<>(new DurationConverter(), 16);
+        converter.convert("5m");
+        converter.clear();
+
+        assertEquals(0, converter.size());
+    }
+
+    @Test
+    public void testFailuresNotCached() {
+        final CachingConverter<Duration> converter = new CachingConverter<>(new DurationConverter(), 16);
+
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("five minutes"));
+        assertEquals(0, converter.size());
+    }
+
+    @Test
+    public void testDefensiveCopy() {
+        final CachingConverter<Point> converter = new CachingConverter<>(new PointConverter(), 16, Duration.ZERO, Point::new);
+
+        final Point first = converter.convert("(1, 2)");
+        first.x = 100;
+        final Point second = converter.convert("(1, 2)");
+
+        assertEquals(new Point(1, 2), second);
+    }
+
+    @Test
+    public void testMutableWithoutCopier() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingConverter<>(new PointConverter(), 16));
+    }
+
+    @Test
+    public void testArrayWithoutCopier() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingConverter<>(new ArrayConverter<>(UUID.class, new UuidConverter()), 16));
+    }
+
+    @Test
+    public void testArrayDefensiveCopy() {
+        final CachingConverter<UUID[]> converter = new CachingConverter<>(new ArrayConverter<>(UUID.class, new UuidConverter()), 16, Duration.ZERO, UUID[]::clone);
+
+        final UUID[] first = converter.convert("dc7e3ec6-67f0-4c3a-8b3e-2c2a9c8a4d1e");
+        first[0] = null;
+        final UUID[] second = converter.convert("dc7e3ec6-67f0-4c3a-8b3e-2c2a9c8a4d1e");
+
+        assertEquals(UUID.fromString("dc7e3ec6-67f0-4c3a-8b3e-2c2a9c8a4d1e"), second[0]);
+    }
+
+    @Test
+    public void testInvalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingConverter<>(new UuidConverter(), 0));
+    }
+
+    @Test
+    public void testNegativeExpiry() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingConverter<>(new UuidConverter(), 16, Duration.ofSeconds(-1)));
+    }
+}
@@ -79,4 +79,39 @@ public class CharacterConverterTest {
         CharacterConverter converter = new CharacterConverter();
         assertThrows(IllegalArgumentException.class, () -> converter.convert(""));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0x41", "0X41", "0x0041", "\\u0041", "U+0041", "u+0041"})
+    public void testConvertHexForms(final String value) {
+        CharacterConverter converter = new CharacterConverter();
+
+        final char expected = 'A';
+        final char actual = converter.convert(value);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConvertMaxValue() {
+        CharacterConverter converter = new CharacterConverter();
+
+        final char expected = Character.MAX_VALUE;
+        final char actual = converter.convert("U+FFFF");
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0x10000", "U+10000", "U+01F600"})
+    public void testConvertBeyondBasicMultilingualPlane(final String value) {
+        CharacterConverter converter = new CharacterConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0x", "0x+41", "0xG1", "\\u41", "\\u00411", "U+41", "U+0000041"})
+    public void testConvertInvalidHex(final String value) {
+        CharacterConverter converter = new CharacterConverter();
+        assertThrows(NumberFormatException.class, () -> converter.convert(value));
+    }
 }
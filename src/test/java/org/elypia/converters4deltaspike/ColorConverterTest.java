@@ -8,6 +8,8 @@ import java.awt.Color;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -86,6 +88,150 @@ public class ColorConverterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testConverteringCssColorName() {
+        ColorConverter converter = new ColorConverter();
+
+        final Color expected = new Color(0x663399);
+        final Color actual = converter.convert("RebeccaPurple");
+
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Names that were supported through {@link Color} before CSS
+     * names were supported must still return the same color.
+     */
+    @Test
+    public void testLegacyColorNameTakesPrecedence() {
+        ColorConverter converter = new ColorConverter();
+
+        final Color expected = Color.ORANGE;
+        final Color actual = converter.convert("orange");
+
+        assertSame(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"aliceblue", "DarkSlateGrey", "lightgoldenrodyellow", "TAN", "whitesmoke", "yellowgreen"})
+    public void testCssColorNames(final String value) {
+        ColorConverter converter = new ColorConverter();
+        assertDoesNotThrow(() -> converter.convert(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gray", "darkgray", "lightgray", "dimgray", "slategray", "darkslategray", "lightslategray"})
+    public void testGreyAliasesEqualGray(final String value) {
+        ColorConverter converter = new ColorConverter();
+
+        final Color expected = converter.convert(value);
+        final Color actual = converter.convert(value.replace("gray", "grey"));
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"rebeccapurpl", "rebecca-purple", "notacolor", "re", ""})
+    public void testInvalidColorNames(final String value) {
+        ColorConverter converter = new ColorConverter();
+        assertThrows(NumberFormatException.class, () -> converter.convert(value));
+    }
+
+    @Test
+    public void testConverteringRgbFunction() {
+        ColorConverter converter = new ColorConverter();
+
+        final Color expected = new Color(12, 34, 56, 128);
+        final Color actual = converter.convert("rgb(12 34 56 / 50%)");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringLegacyRgbaFunction() {
+        ColorConverter converter = new ColorConverter();
+
+        final Color expected = new Color(12, 34, 56, 128);
+        final Color actual = converter.convert("rgba(12, 34, 56, 0.5)");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringRgbPercentages() {
+        ColorConverter converter = new ColorConverter();
+
+        final Color expected = new Color(255, 128, 0);
+        final Color actual = converter.convert("rgb(100% 50% 0%)");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringHslFunction() {
+        ColorConverter converter = new ColorConverter();
+
+        final Color expected = Color.GREEN;
+        final Color actual = converter.convert("hsl(120deg 100% 50%)");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringLegacyHslaFunction() {
+        ColorConverter converter = new ColorConverter();
+
+        final Color expected = new Color(32, 96, 96, 77);
+        final Color actual = converter.convert("HSLA(0.5turn, 50%, 25%, 0.3)");
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"rgb(1 2)", "rgb(1,2 3)", "rgb(1 2 3 4)", "rgb(1 2 3 / 4 / 5)", "rgbx(1 2 3)", "rgb(a b c)", "hsl(10% 1% 1%)", "rgb(1deg 2 3)", "rgb()", "rgb(1 2 3 /)"})
+    public void testConverteringInvalidFunctions(final String value) {
+        ColorConverter converter = new ColorConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
+
+    @Test
+    public void testCachedColorIsSameInstance() {
+        ColorConverter converter = new ColorConverter(16);
+
+        final Color expected = converter.convert("#336699");
+        final Color actual = converter.convert("#336699FF");
+
+        assertSame(expected, actual);
+    }
+
+    @Test
+    public void testUncachedColorIsNewInstance() {
+        ColorConverter converter = new ColorConverter();
+
+        final Color expected = converter.convert("#336699");
+        final Color actual = converter.convert("#336699");
+
+        assertEquals(expected, actual);
+        assertNotSame(expected, actual);
+    }
+
+    @Test
+    public void testCacheEvictsWhenFull() {
+        ColorConverter converter = new ColorConverter(1);
+
+        for (int i = 0; i < 256; i++) {
+            final Color expected = new Color(i, i, i);
+            final Color actual = converter.convert(String.format("#%02X%02X%02X", i, i, i));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    public void testInvalidCacheSize(final int value) {
+        assertThrows(IllegalArgumentException.class, () -> new ColorConverter(value));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"white", "lightgray", "gray", "darkgray", "black", "red", "pink", "orange", "yellow", "green", "magenta", "cyan", "blue"})
     public void testAllLiteralColors(final String value) {
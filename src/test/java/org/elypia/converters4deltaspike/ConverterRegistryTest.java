@@ -0,0 +1,67 @@
+package org.elypia.converters4deltaspike;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.time.DayOfWeek;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class ConverterRegistryTest {
+
+    @Test
+    public void testSharedInstance() {
+        assertSame(ConverterRegistry.get(Color.class), ConverterRegistry.get(Color.class));
+    }
+
+    @Test
+    public void testConvert() {
+        final Color expected = Color.WHITE;
+        final Color actual = ConverterRegistry.convert(Color.class, "#FFF");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConvertPrimitive() {
+        final char expected = 'A';
+        final char actual = ConverterRegistry.convert(char.class, "0x41");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConvertEnumType() {
+        final DayOfWeek expected = DayOfWeek.MONDAY;
+        final DayOfWeek actual = ConverterRegistry.convert(DayOfWeek.class, "MONDAY");
+
+        assertEquals(expected, actual);
+        assertSame(ConverterRegistry.get(DayOfWeek.class), ConverterRegistry.get(DayOfWeek.class));
+    }
+
+    @Test
+    public void testIsSupported() {
+        assertTrue(ConverterRegistry.isSupported(TimeUnit.class));
+        assertFalse(ConverterRegistry.isSupported(String.class));
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        assertThrows(IllegalArgumentException.class, () -> ConverterRegistry.get(String.class));
+    }
+
+    @Test
+    public void testWarmUp() {
+        assertDoesNotThrow(ConverterRegistry::warmUp);
+    }
+}
@@ -36,7 +36,7 @@ public class DimensionConverterTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"Hello, world!", "<3", "512n512", "0xFF", "", "-512x512", "-512"})
+    @ValueSource(strings = {"Hello, world!", "<3", "512n512", "0xFF", "", "-512x512", "-512", "x512", "512x", "512xx512", "512x512x512"})
     public void testInvalidDimensions(final String value) {
         final DimensionConverter converter = new DimensionConverter();
         assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
@@ -46,6 +46,83 @@ public class DurationConverterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testConverteringNegativeNumber() {
+        DurationConverter converter = new DurationConverter();
+
+        final Duration expected = Duration.ofMillis(-250);
+        final Duration actual = converter.convert("-250");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringHoursAndMinutes() {
+        DurationConverter converter = new DurationConverter();
+
+        final Duration expected = Duration.ofMinutes(90);
+        final Duration actual = converter.convert("1h30m");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringMillisecondsUnit() {
+        DurationConverter converter = new DurationConverter();
+
+        final Duration expected = Duration.ofMillis(250);
+        final Duration actual = converter.convert("250ms");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringFractionalSeconds() {
+        DurationConverter converter = new DurationConverter();
+
+        final Duration expected = Duration.ofMillis(1500);
+        final Duration actual = converter.convert("1.5s");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringDays() {
+        DurationConverter converter = new DurationConverter();
+
+        final Duration expected = Duration.ofDays(2);
+        final Duration actual = converter.convert("2d");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringNegativeUnits() {
+        DurationConverter converter = new DurationConverter();
+
+        final Duration expected = Duration.ofMinutes(-90);
+        final Duration actual = converter.convert("-1h30m");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringSmallUnits() {
+        DurationConverter converter = new DurationConverter();
+
+        final Duration expected = Duration.ofNanos(10_007);
+        final Duration actual = converter.convert("10us7ns");
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "1x", "1M", "h", "1.", ".s", ".ms", "1h 30m", "P", "99999999999999999999d", "106751991167301d"})
+    public void testConverteringInvalidUnits(final String value) {
+        DurationConverter converter = new DurationConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
+
     /**
      * As this is meant to be for technical usage, such as developers, or administrators
      * of software, we don't allow localized {@link Number}s such as <code>1,000</code>. Only programatically
@@ -5,10 +5,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 /**
  * @author seth@elypia.org (Seth Falco)
@@ -51,6 +54,69 @@ public class EnumConverterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testQualifiedNameFromTypedInstance() {
+        EnumConverter converter = new EnumConverter(DayOfWeek.class);
+
+        final DayOfWeek expected = DayOfWeek.FRIDAY;
+        final Enum actual = converter.convert("java.time.DayOfWeek#FRIDAY");
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"FUNDAY", "monday", ""})
+    public void testMissingNameFromTypedInstance(final String value) {
+        EnumConverter converter = new EnumConverter(DayOfWeek.class);
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
+
+    @Test
+    public void testMissingConstantOfQualifiedName() {
+        EnumConverter converter = new EnumConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("java.time.DayOfWeek#FUNDAY"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"seconds", "Seconds", "SECONDS", "java.util.concurrent.TimeUnit.SECONDS"})
+    public void testIgnoreCase(final String value) {
+        EnumConverter converter = new EnumConverter(TimeUnit.class, true);
+
+        final TimeUnit expected = TimeUnit.SECONDS;
+        final Enum actual = converter.convert(value);
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"s", "S", "seconds"})
+    public void testAliasesIgnoringCase(final String value) {
+        EnumConverter converter = new EnumConverter(TimeUnit.class, true, Map.of("s", TimeUnit.SECONDS));
+
+        final TimeUnit expected = TimeUnit.SECONDS;
+        final Enum actual = converter.convert(value);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testAliasesRespectingCase() {
+        EnumConverter converter = new EnumConverter(TimeUnit.class, false, Map.of("s", TimeUnit.SECONDS));
+
+        assertEquals(TimeUnit.SECONDS, converter.convert("s"));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("S"));
+    }
+
+    @Test
+    public void testAmbiguousAlias() {
+        assertThrows(IllegalArgumentException.class, () -> new EnumConverter(TimeUnit.class, true, Map.of("Seconds", TimeUnit.MINUTES)));
+    }
+
+    @Test
+    public void testAliasOfWrongType() {
+        assertThrows(IllegalArgumentException.class, () -> new EnumConverter(TimeUnit.class, true, Map.of("mon", DayOfWeek.MONDAY)));
+    }
+
     @Test
     public void testConvertWroteEnumType() {
         EnumConverter converter = new EnumConverter(TimeUnit.class);
@@ -64,6 +130,27 @@ public class EnumConverterTest {
         assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {".DayOfWeek#MONDAY", "java..time.DayOfWeek#MONDAY", "java.time.DayOfWeek#", "java.time.#MONDAY", "DayOfWeek#MONDAY", "java.time.DayOfWeek#MONDAY!"})
+    public void testMalformedQualifiedNames(final String value) {
+        EnumConverter converter = new EnumConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
+
+    /**
+     * Input like this caused catastrophic backtracking when
+     * qualified names were validated with a regular expression.
+     */
+    @Test
+    public void testPathologicalInput() {
+        EnumConverter converter = new EnumConverter();
+        final String value = "a".repeat(10_000) + "!";
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+        });
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"java.lang.Exception#MONDAY", "java.lang.String#MONDAY"})
     public void testNonEnumClasses(final String value) {
@@ -77,4 +164,26 @@ public class EnumConverterTest {
         EnumConverter converter = new EnumConverter();
         assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
     }
+
+    /**
+     * Classes which couldn't be found are cached, this makes sure
+     * the cached result still fails the same way.
+     */
+    @Test
+    public void testNonExistingClassRepeated() {
+        EnumConverter converter = new EnumConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("org.example.Missing#MONDAY"));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("org.example.Missing#MONDAY"));
+    }
+
+    @Test
+    public void testConvertRepeated() {
+        EnumConverter converter = new EnumConverter();
+
+        final TimeUnit expected = TimeUnit.SECONDS;
+        converter.convert("java.util.concurrent.TimeUnit.SECONDS");
+        final Enum actual = converter.convert("java.util.concurrent.TimeUnit.SECONDS");
+
+        assertEquals(expected, actual);
+    }
 }
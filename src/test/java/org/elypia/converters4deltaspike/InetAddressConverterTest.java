@@ -6,9 +6,17 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author seth@elypia.org (Seth Falco)
@@ -52,4 +60,120 @@ public class InetAddressConverterTest {
         InetAddressConverter converter = new InetAddressConverter();
         assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
     }
+
+    @Test
+    public void testConverteringLiteralDoesntResolve() throws UnknownHostException {
+        InetAddressConverter converter = new InetAddressConverter((host) -> {
+            throw new AssertionError("Resolver shouldn't be used for literals.");
+        }, Duration.ofMinutes(1), Runnable::run);
+
+        assertEquals(InetAddress.getByName("192.168.0.1"), converter.convert("192.168.0.1"));
+        assertEquals(InetAddress.getByName("::1"), converter.convert("::1"));
+    }
+
+    @Test
+    public void testConverteringCachedHostName() {
+        final AtomicInteger calls = new AtomicInteger();
+        InetAddressConverter converter = new InetAddressConverter((host) -> {
+            calls.incrementAndGet();
+            return InetAddress.getByAddress(host, new byte[] {10, 0, 0, 1});
+        }, Duration.ofMinutes(1), Runnable::run);
+
+        final InetAddress expected = converter.convert("example.org");
+        final InetAddress actual = converter.convert("example.org");
+
+        assertSame(expected, actual);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testExpiredHostNamesRemoved() throws InterruptedException {
+        InetAddressConverter converter = new InetAddressConverter((host) -> {
+            return InetAddress.getByAddress(host, new byte[] {10, 0, 0, 1});
+        }, Duration.ofMillis(1), Runnable::run);
+
+        for (int i = 0; i < 100; i++)
+            converter.convert("host" + i + ".example.org");
+
+        Thread.sleep(10);
+        converter.convert("example.org");
+
+        assertEquals(1, converter.cacheSize());
+    }
+
+    @Test
+    public void testConverteringUncachedHostName() {
+        final AtomicInteger calls = new AtomicInteger();
+        InetAddressConverter converter = new InetAddressConverter((host) -> {
+            calls.incrementAndGet();
+            return InetAddress.getByAddress(host, new byte[] {10, 0, 0, 1});
+        }, Duration.ZERO, Runnable::run);
+
+        converter.convert("example.org");
+        converter.convert("example.org");
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testFailedResolutionIsntCached() {
+        final AtomicInteger calls = new AtomicInteger();
+        InetAddressConverter converter = new InetAddressConverter((host) -> {
+            calls.incrementAndGet();
+            throw new UnknownHostException(host);
+        }, Duration.ofMinutes(1), Runnable::run);
+
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("example.org"));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("example.org"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testConverteringAsync() throws Exception {
+        final List<Runnable> tasks = new ArrayList<>();
+        InetAddressConverter converter = new InetAddressConverter((host) -> {
+            return InetAddress.getByAddress(host, new byte[] {10, 0, 0, 1});
+        }, Duration.ofMinutes(1), tasks::add);
+
+        final CompletableFuture<InetAddress> future = converter.convertAsync("example.org");
+
+        assertFalse(future.isDone());
+        assertSame(future, converter.convertAsync("example.org"));
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+
+        assertTrue(future.isDone());
+        assertEquals(InetAddress.getByAddress(new byte[] {10, 0, 0, 1}), future.get());
+    }
+
+    @Test
+    public void testConverteringLiteralAsyncIsComplete() {
+        InetAddressConverter converter = new InetAddressConverter(Duration.ofMinutes(1));
+        assertTrue(converter.convertAsync("10.0.0.1").isDone());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0.0.0.0", "255.255.255.255", "::", "::1", "1::", "1::8", "2001:DB8::1", "1:2:3:4:5:6:7:8",
+        "::ffff:192.168.0.1", "1:2:3:4:5:6:1.2.3.4", "[2001:db8::1]", "fe80::1%1"
+    })
+    public void testConverteringLiteralOnly(final String value) throws UnknownHostException {
+        InetAddressConverter converter = new InetAddressConverter(true);
+
+        final InetAddress expected = InetAddress.getByName(value);
+        final InetAddress actual = converter.convert(value);
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "localhost", "example.org", "", "256.0.0.1", "01.2.3.4", "1.2.3", "1:2:3:4:5:6:7:8:9", "1::2::3",
+        "1:", ":1", "12345::", "1:2:3:4:5:6:7::8", "::1.2.3", "1.2.3.4::", "[::1", "[1.2.3.4]", "::1%"
+    })
+    public void testConverteringInvalidLiteralOnly(final String value) {
+        InetAddressConverter converter = new InetAddressConverter(true);
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
 }
@@ -36,9 +36,43 @@ public class InstantConverterTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"Hello, world!", "two-thousand-and-eighteen", "200,000,000,000"})
+    @ValueSource(strings = {"Hello, world!", "two-thousand-and-eighteen", "200,000,000,000", "99999999999999999999"})
     public void testConverteringInvalidStrings(final String value) {
         InstantConverter converter = new InstantConverter();
         assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "2020-08-04T00:14:43Z", "2020-08-04T00:14:43.6Z", "2020-08-04T00:14:43.605Z",
+        "2020-08-04T00:14:43.123456789Z", "2000-02-29T23:59:59Z", "1969-12-31T23:59:59.999Z",
+        "0000-01-01T00:00:00Z", "9999-12-31T23:59:59.999999999Z"
+    })
+    public void testConverteringCanonicalStrings(final String value) {
+        InstantConverter converter = new InstantConverter();
+
+        final Instant expected = Instant.parse(value);
+        final Instant actual = converter.convert(value);
+
+        assertEquals(expected, actual);
+    }
+
+    /** Values outside of the canonical layout are still parsed by {@link Instant#parse(CharSequence)}. */
+    @ParameterizedTest
+    @ValueSource(strings = {"2020-01-01T24:00:00Z", "2020-01-01t00:00:00z", "+12020-01-01T00:00:00Z"})
+    public void testConverteringNonCanonicalStrings(final String value) {
+        InstantConverter converter = new InstantConverter();
+
+        final Instant expected = Instant.parse(value);
+        final Instant actual = converter.convert(value);
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2019-02-29T00:00:00Z", "1900-02-29T00:00:00Z", "2020-13-01T00:00:00Z", "2020-01-01T00:00:60Z", "2020-01-01T00:00:00.1234567890Z"})
+    public void testConverteringInvalidCanonicalStrings(final String value) {
+        InstantConverter converter = new InstantConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
 }
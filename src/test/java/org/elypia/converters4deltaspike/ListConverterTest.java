@@ -0,0 +1,144 @@
+package org.elypia.converters4deltaspike;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class ListConverterTest {
+
+    @Test
+    public void testList() {
+        ListConverter<Duration> converter = new ListConverter<>(new DurationConverter());
+
+        final List<Duration> expected = List.of(Duration.ofSeconds(1), Duration.ofMinutes(5), Duration.ofHours(1));
+        final List<Duration> actual = converter.convert("1s, 5m,1h");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testEscapes() {
+        ListConverter<String> converter = new ListConverter<>((value) -> value);
+
+        final List<String> expected = List.of("a,b", "\\ c", "d\\", "e\\");
+        final List<String> actual = converter.convert("a\\,b, \\ c, d\\\\, e\\");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testPatternBackslashes() {
+        ListConverter<Pattern> converter = new ListConverter<>(new PatternConverter());
+
+        final List<String> expected = List.of("\\d+", "\\w+", "a,b");
+        final List<String> actual = converter.convert("\\d+, \\w+, a\\,b").stream()
+            .map(Pattern::pattern)
+            .collect(Collectors.toList());
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testUnicodeEscapeCharacters() {
+        ListConverter<Character> converter = new ListConverter<>(new CharacterConverter());
+
+        final List<Character> expected = List.of('$', 'a');
+        final List<Character> actual = converter.convert("\\u0024, a");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testFileBackslashes() {
+        ListConverter<File> converter = new ListConverter<>(new FileConverter());
+
+        final List<File> expected = List.of(new File("C:\\temp"), new File("D:\\data\\logs"));
+        final List<File> actual = converter.convert("C:\\temp, D:\\data\\logs");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testDelimiter() {
+        ListConverter<String> converter = new ListConverter<>((value) -> value, ';', Integer.MAX_VALUE);
+
+        final List<String> expected = List.of("a,b", "c");
+        final List<String> actual = converter.convert("a,b; c");
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   "})
+    public void testEmpty(final String value) {
+        ListConverter<Duration> converter = new ListConverter<>(new DurationConverter());
+        assertEquals(List.of(), converter.convert(value));
+    }
+
+    @Test
+    public void testParallel() {
+        ListConverter<Integer> converter = new ListConverter<>(Integer::valueOf, ',', 2);
+
+        final List<Integer> expected = List.of(1, 2, 3, 4, 5);
+        final List<Integer> actual = converter.convert("1, 2, 3, 4, 5");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testParallelContextClassLoader() {
+        final ClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+
+        ListConverter<ClassLoader> converter = new ListConverter<>((value) -> Thread.currentThread().getContextClassLoader(), ',', 2);
+        final String value = String.join(",", Collections.nCopies(10000, "a"));
+
+        thread.setContextClassLoader(loader);
+
+        try {
+            for (ClassLoader actual : converter.convert(value))
+                assertSame(loader, actual);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    @Test
+    public void testUnmodifiable() {
+        ListConverter<Duration> converter = new ListConverter<>(new DurationConverter());
+        final List<Duration> list = converter.convert("1s");
+
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, Duration.ZERO));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1s,,5m", "1s,", ",1s", "1s\\", "1s, five minutes"})
+    public void testInvalid(final String value) {
+        ListConverter<Duration> converter = new ListConverter<>(new DurationConverter());
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(chars = {'\\', ' ', '\t'})
+    public void testInvalidDelimiter(final char delimiter) {
+        assertThrows(IllegalArgumentException.class, () -> new ListConverter<>(new DurationConverter(), delimiter, 1));
+    }
+}
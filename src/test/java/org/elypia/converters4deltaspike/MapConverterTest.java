@@ -0,0 +1,98 @@
+package org.elypia.converters4deltaspike;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class MapConverterTest {
+
+    @Test
+    public void testEnumKeys() {
+        MapConverter<Enum, Duration> converter = new MapConverter<>(new EnumConverter(DayOfWeek.class), new DurationConverter());
+
+        final Map<DayOfWeek, Duration> expected = new EnumMap<>(DayOfWeek.class);
+        expected.put(DayOfWeek.MONDAY, Duration.ofSeconds(5));
+        expected.put(DayOfWeek.FRIDAY, Duration.ofSeconds(30));
+
+        final Map<Enum, Duration> actual = converter.convert("MONDAY=5s; FRIDAY = 30s");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testStringKeys() {
+        MapConverter<String, String> converter = new MapConverter<>((value) -> value, (value) -> value);
+
+        final Map<String, String> expected = Map.of("a=b", "1", "c", "x=y", "d", ";");
+        final Map<String, String> actual = converter.convert("a\\=b=1;c=x=y; d = \\;");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testRegexValues() {
+        MapConverter<String, Pattern> converter = new MapConverter<>((value) -> value, new PatternConverter());
+
+        final Map<String, String> expected = Map.of("en", "\\d+", "fr", "a=b;c");
+        final Map<String, String> actual = converter.convert("en=\\d+; fr=a\\=b\\;c").entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, (entry) -> entry.getValue().pattern()));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testDelimiterAndSeparator() {
+        MapConverter<String, Duration> converter = new MapConverter<>((value) -> value, new DurationConverter(), ',', ':');
+
+        final Map<String, Duration> expected = Map.of("read", Duration.ofSeconds(5), "write", Duration.ofSeconds(30));
+        final Map<String, Duration> actual = converter.convert("read: 5s, write: 30s");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testEmpty() {
+        MapConverter<String, Duration> converter = new MapConverter<>((value) -> value, new DurationConverter());
+        assertEquals(Map.of(), converter.convert(""));
+    }
+
+    @Test
+    public void testUnmodifiable() {
+        MapConverter<Enum, Duration> converter = new MapConverter<>(new EnumConverter(DayOfWeek.class), new DurationConverter());
+        final Map<Enum, Duration> map = converter.convert("MONDAY=5s");
+
+        assertThrows(UnsupportedOperationException.class, () -> map.put(DayOfWeek.TUESDAY, Duration.ZERO));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MONDAY=5s;MONDAY=1s", "MONDAY", "MONDAY=", "=5s", "MONDAY=5s;", "MONDAY=5s;;FRIDAY=1s", "MONDAY=five seconds"})
+    public void testInvalid(final String value) {
+        MapConverter<Enum, Duration> converter = new MapConverter<>(new EnumConverter(DayOfWeek.class), new DurationConverter());
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
+
+    @Test
+    public void testDuplicateStringKeys() {
+        MapConverter<String, String> converter = new MapConverter<>((value) -> value, (value) -> value);
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("a=1;a=2"));
+    }
+
+    @Test
+    public void testSameDelimiterAndSeparator() {
+        assertThrows(IllegalArgumentException.class, () -> new MapConverter<>((value) -> value, (value) -> value, '=', '='));
+    }
+}
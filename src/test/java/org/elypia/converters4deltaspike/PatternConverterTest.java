@@ -1,8 +1,18 @@
 package org.elypia.converters4deltaspike;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author seth@elypia.org (Seth Falco)
@@ -19,4 +29,125 @@ public class PatternConverterTest {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void testConverteringWithFlags() {
+        PatternConverter converter = new PatternConverter(Pattern.CASE_INSENSITIVE);
+        assertTrue(converter.convert("ow.*o").matcher("OWO").matches());
+    }
+
+    @Test
+    public void testConverteringInvalidFlags() {
+        assertThrows(IllegalArgumentException.class, () -> new PatternConverter(1 << 30));
+    }
+
+    @Test
+    public void testConverteringCached() {
+        PatternCache cache = new PatternCache(16);
+        PatternConverter converter = new PatternConverter(cache);
+
+        final Pattern expected = converter.convert("Ow.+O");
+        final Pattern actual = converter.convert("Ow.+O");
+
+        assertSame(expected, actual);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    public void testCacheIsKeyedByFlags() {
+        PatternCache cache = new PatternCache(16);
+        PatternConverter converter = new PatternConverter(cache);
+        PatternConverter caseInsensitiveConverter = new PatternConverter(Pattern.CASE_INSENSITIVE, cache);
+
+        assertNotSame(converter.convert("Ow.+O"), caseInsensitiveConverter.convert("Ow.+O"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testCacheEvictsUnreferenced() {
+        PatternCache cache = new PatternCache(4);
+        PatternConverter converter = new PatternConverter(cache);
+        final Pattern hot = converter.convert("hot");
+
+        for (int i = 0; i < 100; i++) {
+            converter.convert("cold" + i);
+            assertSame(hot, converter.convert("hot"));
+        }
+
+        assertEquals(4, cache.size());
+        assertEquals(97, cache.evictionCount());
+    }
+
+    @Test
+    public void testMalformedPatternIsntCached() {
+        PatternCache cache = new PatternCache(16);
+        PatternConverter converter = new PatternConverter(cache);
+
+        assertThrows(PatternSyntaxException.class, () -> converter.convert("("));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testConverteringDelimited() {
+        PatternConverter converter = new PatternConverter(PatternConverter.Option.DELIMITED);
+        Pattern pattern = converter.convert("/ow.+o/is");
+
+        assertEquals("ow.+o", pattern.pattern());
+        assertEquals(Pattern.CASE_INSENSITIVE | Pattern.DOTALL, pattern.flags());
+    }
+
+    @Test
+    public void testConverteringDelimitedContainingSlash() {
+        PatternConverter converter = new PatternConverter(PatternConverter.Option.DELIMITED);
+        assertEquals("/api/.*", converter.convert("//api/.*/").pattern());
+    }
+
+    @Test
+    public void testConverteringUndelimitedWithDelimitedOption() {
+        PatternConverter converter = new PatternConverter(PatternConverter.Option.DELIMITED);
+        assertEquals("(?i)Ow.+O", converter.convert("(?i)Ow.+O").pattern());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/ow.+o", "/api/.*", "/ow.+o/q"})
+    public void testConverteringInvalidDelimited(final String value) {
+        PatternConverter converter = new PatternConverter(PatternConverter.Option.DELIMITED);
+        assertThrows(PatternSyntaxException.class, () -> converter.convert(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(a+)+", "(a*)*", "(a|b+)*", "((a+)b)+", "(?:\\s*,)*", "(a{2,})+", "(a+?)+", "^(([a-z])+.)+[A-Z]([a-z])+$"})
+    public void testRejectingNestedQuantifiers(final String value) {
+        PatternConverter converter = new PatternConverter(PatternConverter.Option.REJECT_NESTED_QUANTIFIERS);
+        assertThrows(PatternSyntaxException.class, () -> converter.convert(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(a+) +", "(a+)#comment\n+", "(a+)\n*", "(a+) {2, }", "(a+) +?"})
+    public void testRejectingNestedQuantifiersWithComments(final String value) {
+        PatternConverter converter = new PatternConverter(Pattern.COMMENTS, null, PatternConverter.Option.REJECT_NESTED_QUANTIFIERS);
+        assertThrows(PatternSyntaxException.class, () -> converter.convert(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(?x)(a+) +", "(?x:(a+) +)", "(?ix)(a+)#comment\n+", "(?-i)(?x)(a+)\t*", "(?x)( ?: a+ ) +"})
+    public void testRejectingNestedQuantifiersWithEmbeddedComments(final String value) {
+        PatternConverter converter = new PatternConverter(PatternConverter.Option.REJECT_NESTED_QUANTIFIERS);
+        assertThrows(PatternSyntaxException.class, () -> converter.convert(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(a+) +", "(?x)(?-x)(a+) +", "(?x:a)(a+) +", "(b(?x))(a+) +", "(?x)(a+) ++", "(?x)(a+)#(a+)+"})
+    public void testAllowingQuantifiedWhitespace(final String value) {
+        PatternConverter converter = new PatternConverter(PatternConverter.Option.REJECT_NESTED_QUANTIFIERS);
+        assertDoesNotThrow(() -> converter.convert(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a+b+", "(a+)?", "(a+){2,5}", "(a++)+", "(?>a+)+", "(a+)++", "[(a+)]+", "\\(a+\\)+", "\\Q(a+)+\\E", "(a{2,5})+", "\\w+(,\\w++)*"})
+    public void testAllowingBoundedQuantifiers(final String value) {
+        PatternConverter converter = new PatternConverter(PatternConverter.Option.REJECT_NESTED_QUANTIFIERS);
+        assertDoesNotThrow(() -> converter.convert(value));
+    }
 }
@@ -43,7 +43,7 @@ public class PeriodConverterTest {
      * @param value Test value.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"1,000", "Hello, world!", "100.000.000", "Z"})
+    @ValueSource(strings = {"1,000", "Hello, world!", "100.000.000", "Z", "3000000000"})
     public void testConverteringInvalidNumbers(final String value) {
         PeriodConverter converter = new PeriodConverter();
         assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
@@ -18,10 +18,13 @@ package org.elypia.converters4deltaspike;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.awt.Point;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author seth@elypia.org (Seth Falco)
@@ -51,4 +54,31 @@ public class PointConverterTest {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void testConverteringWhitespace() {
+        final Point expected = new Point(-1, 2);
+        final Point actual = converter.convert(" ( -1 ,\t+2 ) ");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringLimits() {
+        final Point expected = new Point(Integer.MAX_VALUE, Integer.MIN_VALUE);
+        final Point actual = converter.convert("(2147483647, -2147483648)");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringOverflow() {
+        assertThrows(NumberFormatException.class, () -> converter.convert("(2147483648, 0)"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "(", "()", "(1)", "(1,)", "(,1)", "(1,2,3)", "(1 2)", "(1.5,2)", "1,2", "(- 1,2)", "(1,2)x"})
+    public void testConverteringInvalid(final String value) {
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
 }
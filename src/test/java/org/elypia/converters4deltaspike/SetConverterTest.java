@@ -0,0 +1,55 @@
+package org.elypia.converters4deltaspike;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class SetConverterTest {
+
+    @Test
+    public void testSet() {
+        SetConverter<UUID> converter = new SetConverter<>(new UuidConverter());
+
+        final Set<UUID> expected = Set.of(
+            UUID.fromString("dc7e3ec6-67f0-4c3a-8b3e-2c2a9c8a4d1e"),
+            UUID.fromString("00000000-0000-0000-0000-000000000001")
+        );
+
+        final Set<UUID> actual = converter.convert("dc7e3ec6-67f0-4c3a-8b3e-2c2a9c8a4d1e, 00000000-0000-0000-0000-000000000001");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testDuplicatesKeepOrder() {
+        SetConverter<String> converter = new SetConverter<>((value) -> value);
+
+        final List<String> expected = List.of("b", "a", "c");
+        final List<String> actual = List.copyOf(converter.convert("b, a, b, c, a"));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testUnmodifiable() {
+        SetConverter<String> converter = new SetConverter<>((value) -> value);
+        final Set<String> set = converter.convert("a");
+
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+    }
+
+    @Test
+    public void testInvalid() {
+        SetConverter<UUID> converter = new SetConverter<>(new UuidConverter());
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("dc7e3ec6-67f0-4c3a-8b3e-2c2a9c8a4d1e, not-a-uuid"));
+    }
+}
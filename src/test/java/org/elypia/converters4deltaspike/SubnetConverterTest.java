@@ -0,0 +1,71 @@
+package org.elypia.converters4deltaspike;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author seth@elypia.org (Seth Falco)
+ * @since 1.1.0
+ */
+public class SubnetConverterTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"10.0.0.0", "10.255.255.255", "192.168.1.0", "192.168.1.255", "127.0.0.1", "2001:db8::", "2001:db8:ffff:ffff:ffff:ffff:ffff:ffff", "::1"})
+    public void testContains(final String address) throws UnknownHostException {
+        SubnetConverter converter = new SubnetConverter();
+        Subnets subnets = converter.convert("10.0.0.0/8, 192.168.1.0/24,127.0.0.1, 2001:db8::/32, ::1");
+
+        assertTrue(subnets.contains(InetAddress.getByName(address)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"9.255.255.255", "11.0.0.0", "192.168.0.255", "192.168.2.0", "127.0.0.2", "2001:db7:ffff::", "2001:db9::", "::2"})
+    public void testDoesntContain(final String address) throws UnknownHostException {
+        SubnetConverter converter = new SubnetConverter();
+        Subnets subnets = converter.convert("10.0.0.0/8, 192.168.1.0/24,127.0.0.1, 2001:db8::/32, ::1");
+
+        assertFalse(subnets.contains(InetAddress.getByName(address)));
+    }
+
+    @Test
+    public void testOverlappingAndAdjacentSubnets() throws UnknownHostException {
+        SubnetConverter converter = new SubnetConverter();
+        Subnets subnets = converter.convert("10.0.0.0/24, 10.0.1.0/24, 10.0.0.128/25, 10.0.2.0/23");
+
+        assertTrue(subnets.contains(InetAddress.getByName("10.0.0.0")));
+        assertTrue(subnets.contains(InetAddress.getByName("10.0.3.255")));
+        assertFalse(subnets.contains(InetAddress.getByName("10.0.4.0")));
+    }
+
+    @Test
+    public void testEntireAddressSpace() throws UnknownHostException {
+        SubnetConverter converter = new SubnetConverter();
+        Subnets subnets = converter.convert("0.0.0.0/0, ::/0");
+
+        assertTrue(subnets.contains(InetAddress.getByName("255.255.255.255")));
+        assertTrue(subnets.contains(InetAddress.getByName("ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff")));
+    }
+
+    @Test
+    public void testContainsInvalidLength() {
+        SubnetConverter converter = new SubnetConverter();
+        Subnets subnets = converter.convert("10.0.0.0/8");
+
+        assertThrows(IllegalArgumentException.class, () -> subnets.contains(new byte[] {10, 0, 0}));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "10.0.0.0/8,", "10.0.0.1/8", "10.0.0.0/33", "::/129", "10.0.0.0/", "10.0.0.0/-1", "localhost", "example.org/24"})
+    public void testConverteringInvalid(final String value) {
+        SubnetConverter converter = new SubnetConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
+}
@@ -4,7 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.List;
 
@@ -43,8 +46,48 @@ public class UrlConverterTest {
         assertThrows(IllegalArgumentException.class, () -> converter.convert("http://elypia.org/"));
     }
 
+    @Test
+    public void testFilteredProtocolIgnoresCase() throws MalformedURLException {
+        UrlConverter converter = new UrlConverter(List.of("HTTPS"));
+
+        final URL expected = new URL("https://gitlab.com/");
+        final URL actual = converter.convert("HTTPS://gitlab.com/");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testUnknownProtocolFail() {
+        UrlConverter converter = new UrlConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("s3://bucket/key"));
+    }
+
+    @Test
+    public void testUnknownProtocolPass() throws URISyntaxException {
+        UrlConverter converter = new UrlConverter(List.of("s3"), UrlConverter.Option.ALLOW_UNKNOWN_PROTOCOLS);
+        URL url = converter.convert("s3://bucket/key");
+
+        assertEquals("s3", url.getProtocol());
+        assertEquals("bucket", url.getHost());
+        assertEquals(new URI("s3://bucket/key"), url.toURI());
+        assertThrows(IOException.class, url::openConnection);
+    }
+
+    @Test
+    public void testUnknownProtocolInvalidUri() {
+        UrlConverter converter = new UrlConverter(null, UrlConverter.Option.ALLOW_UNKNOWN_PROTOCOLS);
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("s3://bucket/invalid key"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"http://[::1", "jar:file.jar", "http://elypia.org:-5/"})
+    public void testUnknownProtocolMalformedKnownProtocol(final String value) {
+        UrlConverter converter = new UrlConverter(null, UrlConverter.Option.ALLOW_UNKNOWN_PROTOCOLS);
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
+
     @ParameterizedTest
-    @ValueSource(strings = {"Hello, world!", ":invalid.protocol"})
+    @ValueSource(strings = {"Hello, world!", ":invalid.protocol", "", "1http://elypia.org/"})
     public void testInvalidUrl(final String value) {
         UrlConverter converter = new UrlConverter();
         assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
@@ -1,10 +1,13 @@
 package org.elypia.converters4deltaspike;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author seth@elypia.org (Seth Falco)
@@ -12,6 +15,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  */
 public class UuidConverterTest {
 
+    @Test
+    public void testReflectiveConstructor() throws ReflectiveOperationException {
+        final UuidConverter converter = UuidConverter.class.getDeclaredConstructor().newInstance();
+
+        final UUID expected = UUID.fromString("cebfb280-a7b0-4561-bc75-f71a1a08f66b");
+        final UUID actual = converter.convert("cebfb280-a7b0-4561-bc75-f71a1a08f66b");
+
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testConverteringPattern() {
         UuidConverter converter = new UuidConverter();
@@ -21,4 +34,44 @@ public class UuidConverterTest {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void testConverteringUpperCase() {
+        UuidConverter converter = new UuidConverter();
+
+        final UUID expected = UUID.fromString("cebfb280-a7b0-4561-bc75-f71a1a08f66b");
+        final UUID actual = converter.convert("CEBFB280-A7B0-4561-BC75-F71A1A08F66B");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringDashless() {
+        UuidConverter converter = new UuidConverter(UuidConverter.Option.DASHLESS);
+
+        final UUID expected = UUID.fromString("cebfb280-a7b0-4561-bc75-f71a1a08f66b");
+        final UUID actual = converter.convert("cebfb280a7b04561bc75f71a1a08f66b");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testConverteringUrn() {
+        UuidConverter converter = new UuidConverter(UuidConverter.Option.URN);
+
+        final UUID expected = UUID.fromString("cebfb280-a7b0-4561-bc75-f71a1a08f66b");
+        final UUID actual = converter.convert("urn:uuid:cebfb280-a7b0-4561-bc75-f71a1a08f66b");
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "", "1-1-1-1-1", "cebfb280a7b04561bc75f71a1a08f66b", "urn:uuid:cebfb280-a7b0-4561-bc75-f71a1a08f66b",
+        "cebfb280-a7b0-4561-bc75-f71a1a08f66g", "cebfb280-a7b0-4561-bc7-5f71a1a08f66b", "cebfb280-a7b0-4561-bc75+f71a1a08f66b"
+    })
+    public void testConverteringInvalid(final String value) {
+        UuidConverter converter = new UuidConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(value));
+    }
 }